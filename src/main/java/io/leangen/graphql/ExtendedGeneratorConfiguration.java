@@ -7,7 +7,7 @@ public class ExtendedGeneratorConfiguration extends GeneratorConfiguration {
     public final GlobalEnvironment environment;
 
     ExtendedGeneratorConfiguration(GeneratorConfiguration config, GlobalEnvironment environment) {
-        super(config.interfaceMappingStrategy, config.scalarDeserializationStrategy, config.typeTransformer, config.basePackages, config.javaDeprecationConfig);
+        super(config.interfaceMappingStrategy, config.scalarDeserializationStrategy, config.typeTransformer, config.basePackages, config.javaDeprecationConfig, config.methodInvokerFactory);
         this.environment = environment;
     }
 }
@@ -2,6 +2,7 @@ package io.leangen.graphql;
 
 import io.leangen.graphql.generator.JavaDeprecationMappingConfig;
 import io.leangen.graphql.generator.mapping.strategy.InterfaceMappingStrategy;
+import io.leangen.graphql.metadata.strategy.query.MethodInvokerFactory;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
 import io.leangen.graphql.metadata.strategy.value.ScalarDeserializationStrategy;
 
@@ -12,12 +13,14 @@ public class GeneratorConfiguration {
     public final TypeTransformer typeTransformer;
     public final String[] basePackages;
     public final JavaDeprecationMappingConfig javaDeprecationConfig;
+    public final MethodInvokerFactory methodInvokerFactory;
 
-    GeneratorConfiguration(InterfaceMappingStrategy interfaceMappingStrategy, ScalarDeserializationStrategy scalarDeserializationStrategy, TypeTransformer typeTransformer, String[] basePackages, JavaDeprecationMappingConfig javaDeprecationConfig) {
+    GeneratorConfiguration(InterfaceMappingStrategy interfaceMappingStrategy, ScalarDeserializationStrategy scalarDeserializationStrategy, TypeTransformer typeTransformer, String[] basePackages, JavaDeprecationMappingConfig javaDeprecationConfig, MethodInvokerFactory methodInvokerFactory) {
         this.interfaceMappingStrategy = interfaceMappingStrategy;
         this.scalarDeserializationStrategy = scalarDeserializationStrategy;
         this.typeTransformer = typeTransformer;
         this.basePackages = basePackages;
         this.javaDeprecationConfig = javaDeprecationConfig;
+        this.methodInvokerFactory = methodInvokerFactory;
     }
 }
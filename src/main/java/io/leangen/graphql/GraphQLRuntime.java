@@ -5,17 +5,27 @@ import graphql.GraphQL;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationState;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.execution.BatchLoaderFetcher;
+import io.leangen.graphql.execution.NPlusOneDetectionInstrumentation;
 import io.leangen.graphql.execution.complexity.ComplexityAnalysisInstrumentation;
-import io.leangen.graphql.execution.complexity.JavaScriptEvaluator;
+import io.leangen.graphql.execution.complexity.ComplexityBudget;
+import io.leangen.graphql.execution.complexity.ComplexityFunction;
+import io.leangen.graphql.execution.complexity.DefaultComplexityFunction;
+import io.leangen.graphql.execution.complexity.OperationLimits;
 import io.leangen.graphql.util.ContextUtils;
+import org.dataloader.DataLoaderRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * Wrapper around GraphQL builder that allows easy instrumentation chaining, limiting query complexity and context wrapping
+ * Wrapper around GraphQL builder that allows easy instrumentation chaining, limiting query complexity (and depth, breadth etc.)
+ * and context wrapping
  */
 public class GraphQLRuntime {
 
@@ -26,11 +36,20 @@ public class GraphQLRuntime {
     public static class Builder extends GraphQL.Builder {
 
         private final List<Instrumentation> instrumentations;
+        private OperationLimits operationLimits;
+        private int operationLimitsIndex;
+        private ComplexityFunction complexityFunction;
+        private int complexityCacheSize = ComplexityAnalysisInstrumentation.DEFAULT_CACHE_SIZE;
+        private boolean singlePassComplexityAnalysis;
+        private ComplexityBudget complexityBudget;
 
         private Builder(GraphQLSchema graphQLSchema) {
             super(graphQLSchema);
             List<Instrumentation> defaultInstrumentations = new ArrayList<>();
             defaultInstrumentations.add(new ContextWrappingInstrumentation());
+            if (usesDataLoaders(graphQLSchema)) {
+                defaultInstrumentations.add(new DataLoaderRegistryInstrumentation());
+            }
             this.instrumentations = defaultInstrumentations;
         }
 
@@ -41,12 +60,163 @@ public class GraphQLRuntime {
         }
 
         public Builder maximumQueryComplexity(int limit) {
-            instrumentations.add(new ComplexityAnalysisInstrumentation(new JavaScriptEvaluator(), limit));
+            return maximumQueryComplexity(limit, new DefaultComplexityFunction());
+        }
+
+        /**
+         * Rejects the operations whose complexity, as scored by the given function, exceeds the limit
+         *
+         * @param limit The maximum allowed complexity
+         * @param complexityFunction The function scoring each field
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumQueryComplexity(int limit, ComplexityFunction complexityFunction) {
+            return maximumQueryComplexity(limit, complexityFunction, ComplexityAnalysisInstrumentation.DEFAULT_CACHE_SIZE);
+        }
+
+        /**
+         * Rejects the operations whose complexity, as scored by the given function, exceeds the limit,
+         * caching up to {@code cacheSize} computed scores (see {@link ComplexityAnalysisInstrumentation})
+         *
+         * @param limit The maximum allowed complexity
+         * @param complexityFunction The function scoring each field
+         * @param cacheSize The maximum number of cached scores. {@code 0} disables caching.
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumQueryComplexity(int limit, ComplexityFunction complexityFunction, int cacheSize) {
+            return maximumQueryComplexity(limit, complexityFunction, cacheSize, false);
+        }
+
+        /**
+         * Rejects the operations whose complexity, as scored by the given function, exceeds the limit,
+         * optionally analyzing them in a single pass that stops as soon as the limit is exceeded
+         * (see {@link ComplexityAnalysisInstrumentation})
+         *
+         * @param limit The maximum allowed complexity
+         * @param complexityFunction The function scoring each field
+         * @param cacheSize The maximum number of cached scores. {@code 0} disables caching.
+         * @param singlePass Whether to analyze the operations in a single pass, without building the tree of fields
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumQueryComplexity(int limit, ComplexityFunction complexityFunction, int cacheSize, boolean singlePass) {
+            this.operationLimits = getOperationLimits().withMaximumComplexity(limit);
+            this.complexityFunction = complexityFunction;
+            this.complexityCacheSize = cacheSize;
+            this.singlePassComplexityAnalysis = singlePass;
+            return this;
+        }
+
+        /**
+         * Rejects the operations nesting fields deeper than the limit, counting the root fields as level {@code 1}.
+         * Checked in a separate, cheap traversal of the operation (together with the other structural limits), before its complexity is scored.
+         *
+         * @param limit The maximum allowed depth
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumQueryDepth(int limit) {
+            this.operationLimits = getOperationLimits().withMaximumDepth(limit);
+            return this;
+        }
+
+        /**
+         * Rejects the operations selecting more fields than the limit, counting each field once per fragment expansion.
+         * Checked in a separate, cheap traversal of the operation (together with the other structural limits), before its complexity is scored.
+         *
+         * @param limit The maximum allowed number of fields
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumFieldCount(int limit) {
+            this.operationLimits = getOperationLimits().withMaximumFieldCount(limit);
+            return this;
+        }
+
+        /**
+         * Rejects the operations selecting more aliased fields than the limit, counting each once per fragment expansion.
+         * Checked in a separate, cheap traversal of the operation (together with the other structural limits), before its complexity is scored.
+         *
+         * @param limit The maximum allowed number of aliases
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumAliasCount(int limit) {
+            this.operationLimits = getOperationLimits().withMaximumAliasCount(limit);
+            return this;
+        }
+
+        /**
+         * Rejects the operations expanding more fragment spreads than the limit.
+         * Checked in a separate, cheap traversal of the operation (together with the other structural limits), before its complexity is scored.
+         *
+         * @param limit The maximum allowed number of fragment expansions
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder maximumFragmentExpansionCount(int limit) {
+            this.operationLimits = getOperationLimits().withMaximumFragmentExpansionCount(limit);
             return this;
         }
 
+        /**
+         * Charges the complexity of each operation to the budget of the client issuing it, rejecting the operations
+         * the client can not currently afford. The complexity is scored by the function given to
+         * {@link #maximumQueryComplexity(int, ComplexityFunction)}, or by {@link DefaultComplexityFunction} if no limit is set.
+         *
+         * @param budget The per-client complexity budget
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder complexityBudget(ComplexityBudget budget) {
+            this.operationLimits = getOperationLimits();
+            this.complexityBudget = budget;
+            return this;
+        }
+
+        private OperationLimits getOperationLimits() {
+            if (operationLimits == null) {
+                //All the limits are enforced by a single instrumentation, in the position of the first one configured
+                operationLimitsIndex = instrumentations.size();
+                return OperationLimits.unlimited();
+            }
+            return operationLimits;
+        }
+
+        /**
+         * Registers a {@link NPlusOneDetectionInstrumentation} reporting the nested operations invoked
+         * more than {@code threshold} times under a single list within a request
+         *
+         * @param threshold The number of invocations under a single list above which an operation is reported
+         * @param reporter The callback receiving the reports
+         * @param reportInExtensions Whether the reports should also be added to the response extensions
+         *
+         * @return This builder instance, to allow method chaining
+         */
+        public Builder nPlusOneDetection(int threshold, Consumer<List<NPlusOneDetectionInstrumentation.Report>> reporter, boolean reportInExtensions) {
+            instrumentations.add(new NPlusOneDetectionInstrumentation(threshold, reporter, reportInExtensions));
+            return this;
+        }
+
+        private static boolean usesDataLoaders(GraphQLSchema schema) {
+            return schema.getAllTypesAsList().stream()
+                    .filter(type -> type instanceof GraphQLObjectType)
+                    .map(type -> (GraphQLObjectType) type)
+                    .anyMatch(type -> type.getFieldDefinitions().stream()
+                            .anyMatch(field -> schema.getCodeRegistry().getDataFetcher(type, field) instanceof BatchLoaderFetcher));
+        }
+
         @Override
         public GraphQL build() {
+            List<Instrumentation> instrumentations = new ArrayList<>(this.instrumentations);
+            if (operationLimits != null) {
+                ComplexityFunction complexityFunction = this.complexityFunction == null && complexityBudget != null
+                        ? new DefaultComplexityFunction() : this.complexityFunction;
+                instrumentations.add(operationLimitsIndex, new ComplexityAnalysisInstrumentation(
+                        complexityFunction, operationLimits, complexityCacheSize, singlePassComplexityAnalysis, complexityBudget));
+            }
             if (instrumentations.size() == 1) {
                 super.instrumentation(instrumentations.get(0));
             } else if (!instrumentations.isEmpty()) {
@@ -63,4 +233,19 @@ public class GraphQLRuntime {
             return ContextUtils.wrapContext(executionInput);
         }
     }
+
+    /**
+     * Provides each request with its own {@link DataLoaderRegistry}, unless one was explicitly set,
+     * so that the loaders of batched operations (see {@link BatchLoaderFetcher}) are scoped to a single request
+     */
+    public static class DataLoaderRegistryInstrumentation extends SimpleInstrumentation {
+
+        @Override
+        public ExecutionInput instrumentExecutionInput(ExecutionInput executionInput, InstrumentationExecutionParameters parameters) {
+            if (executionInput.getDataLoaderRegistry() != DataLoaderDispatcherInstrumentationState.EMPTY_DATALOADER_REGISTRY) {
+                return executionInput;
+            }
+            return executionInput.transform(builder -> builder.dataLoaderRegistry(new DataLoaderRegistry()));
+        }
+    }
 }
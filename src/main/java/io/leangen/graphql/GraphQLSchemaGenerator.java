@@ -19,10 +19,15 @@ import graphql.schema.TypeResolver;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeFactory;
 import io.leangen.graphql.annotations.GraphQLNonNull;
+import io.leangen.graphql.execution.BulkheadRegistry;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.execution.ResolverInterceptor;
 import io.leangen.graphql.execution.ResolverInterceptorFactory;
 import io.leangen.graphql.execution.ResolverInterceptorFactoryParams;
+import io.leangen.graphql.execution.TimeoutInterceptorFactory;
+import io.leangen.graphql.execution.caching.ResolverCacheManager;
+import io.leangen.graphql.execution.metrics.MetricsInterceptorFactory;
+import io.leangen.graphql.execution.metrics.ResolverMetrics;
 import io.leangen.graphql.generator.BuildContext;
 import io.leangen.graphql.generator.DelegatingInputFieldBuilder;
 import io.leangen.graphql.generator.JavaDeprecationMappingConfig;
@@ -80,6 +85,7 @@ import io.leangen.graphql.generator.mapping.strategy.DefaultImplementationDiscov
 import io.leangen.graphql.generator.mapping.strategy.ImplementationDiscoveryStrategy;
 import io.leangen.graphql.generator.mapping.strategy.InterfaceMappingStrategy;
 import io.leangen.graphql.generator.mapping.strategy.NoOpAbstractInputHandler;
+import io.leangen.graphql.jfr.SchemaGenerationPhases;
 import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.messages.DelegatingMessageBundle;
 import io.leangen.graphql.metadata.messages.MessageBundle;
@@ -88,8 +94,10 @@ import io.leangen.graphql.metadata.strategy.InclusionStrategy;
 import io.leangen.graphql.metadata.strategy.query.AnnotatedDirectiveBuilder;
 import io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.BeanResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.DefaultMethodInvokerFactory;
 import io.leangen.graphql.metadata.strategy.query.DefaultOperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.DirectiveBuilder;
+import io.leangen.graphql.metadata.strategy.query.MethodInvokerFactory;
 import io.leangen.graphql.metadata.strategy.query.OperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
 import io.leangen.graphql.metadata.strategy.type.DefaultTypeInfoGenerator;
@@ -107,6 +115,7 @@ import io.leangen.graphql.util.Defaults;
 import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
 import io.leangen.graphql.util.Utils;
+import org.dataloader.DataLoaderOptions;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -120,6 +129,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -187,6 +197,13 @@ public class GraphQLSchemaGenerator {
     private List<InputFieldBuilder> inputFieldBuilders;
     private ResolverInterceptorFactory interceptorFactory;
     private JavaDeprecationMappingConfig javaDeprecationConfig = new JavaDeprecationMappingConfig(true, "Deprecated");
+    private MethodInvokerFactory methodInvokerFactory = new DefaultMethodInvokerFactory();
+    private Supplier<DataLoaderOptions> dataLoaderOptions;
+    private Executor asyncExecutor;
+    private ResolverCacheManager resolverCacheManager = new ResolverCacheManager();
+    private TimeoutInterceptorFactory timeoutInterceptorFactory = new TimeoutInterceptorFactory();
+    private BulkheadRegistry bulkheads = new BulkheadRegistry();
+    private ResolverMetrics resolverMetrics;
     private final OperationSourceRegistry operationSourceRegistry = new OperationSourceRegistry();
     private final List<ExtensionProvider<GeneratorConfiguration, TypeMapper>> typeMapperProviders = new ArrayList<>();
     private final List<ExtensionProvider<GeneratorConfiguration, SchemaTransformer>> schemaTransformerProviders = new ArrayList<>();
@@ -492,6 +509,84 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Sets the factory used by the default {@link ResolverBuilder}s to create the executables that invoke
+     * the underlying methods and fields. Use {@link io.leangen.graphql.metadata.strategy.query.MethodHandleInvokerFactory}
+     * to avoid reflective invocation at runtime.
+     * Explicitly registered resolver builders are not affected, and must be configured individually
+     * (via {@link io.leangen.graphql.metadata.strategy.query.AbstractResolverBuilder#withMethodInvokerFactory(MethodInvokerFactory)}).
+     * The configured factory is available to custom extension providers via {@link GeneratorConfiguration#methodInvokerFactory}.
+     *
+     * @param methodInvokerFactory The factory to use to create resolver invokers
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withMethodInvokerFactory(MethodInvokerFactory methodInvokerFactory) {
+        this.methodInvokerFactory = methodInvokerFactory;
+        return this;
+    }
+
+    /**
+     * Sets the options of the per-request {@link org.dataloader.DataLoader}s resolving the batched operations
+     * marked with {@link io.leangen.graphql.annotations.GraphQLBatched} (those whose resolvers accept
+     * a {@link io.leangen.graphql.annotations.GraphQLContext} list of sources and return a list of results).
+     * Such operations are resolved through loaders even if no options are set. The loaders are registered into each request's
+     * {@link org.dataloader.DataLoaderRegistry}, which {@link GraphQLRuntime} provides automatically,
+     * and are dispatched by graphql-java's {@link graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation}.
+     *
+     * @param dataLoaderOptions The supplier of options (e.g. maximum batch size or caching) for each newly created loader
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     *
+     * @see io.leangen.graphql.execution.BatchLoaderFetcher
+     */
+    public GraphQLSchemaGenerator withDataLoaderBatching(Supplier<DataLoaderOptions> dataLoaderOptions) {
+        this.dataLoaderOptions = dataLoaderOptions;
+        return this;
+    }
+
+    /**
+     * Same as {@link #withDataLoaderBatching(Supplier)}, but only limits the number of sources per batch
+     *
+     * @param maxBatchSize The maximum number of sources resolved in a single invocation of a batched resolver
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withDataLoaderBatching(int maxBatchSize) {
+        return withDataLoaderBatching(() -> DataLoaderOptions.newOptions().setMaxBatchSize(maxBatchSize));
+    }
+
+    /**
+     * Sets the executor on which the (typically blocking) resolvers marked with {@link io.leangen.graphql.annotations.GraphQLAsync}
+     * are invoked, allowing sibling fields to be resolved concurrently. The results of such resolvers are returned as
+     * {@link java.util.concurrent.CompletableFuture}s, which the default execution strategies await without blocking.
+     * <p>If no executor is set, {@link java.util.concurrent.ForkJoinPool#commonPool()} is used, which is sized for CPU-bound
+     * work and thus poorly suited for blocking I/O. A dedicated bounded pool (or, where available, an executor spawning
+     * a virtual thread per task) is strongly recommended instead.</p>
+     *
+     * @param asyncExecutor The executor running the asynchronous resolvers
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
+    /**
+     * Sets the registry providing the {@link io.leangen.graphql.execution.Bulkhead}s that cap the concurrent invocations
+     * of the selected resolvers. By default, only the bulkheads configured via {@link io.leangen.graphql.annotations.GraphQLBulkhead}
+     * are applied. The invocations waiting for a free slot are dispatched to the executor set via {@link #withAsyncExecutor(Executor)}.
+     *
+     * @param bulkheads The registry to use
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withBulkheads(BulkheadRegistry bulkheads) {
+        this.bulkheads = bulkheads;
+        return this;
+    }
+
     public GraphQLSchemaGenerator withTypeInfoGenerator(TypeInfoGenerator typeInfoGenerator) {
         this.typeInfoGenerator = typeInfoGenerator;
         return this;
@@ -681,6 +776,48 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Sets the manager of the caches used by the resolvers marked with {@link io.leangen.graphql.annotations.GraphQLCacheable}.
+     * Mainly useful for keeping a reference to it, in order to monitor the cache statistics or to invalidate the caches.
+     * If not set, each generator uses a manager of its own, shared by all the schemas it generates.
+     *
+     * @param resolverCacheManager The manager to use
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withResolverCacheManager(ResolverCacheManager resolverCacheManager) {
+        this.resolverCacheManager = resolverCacheManager;
+        return this;
+    }
+
+    /**
+     * Sets the factory enforcing the resolver deadlines. By default, only the deadlines set via
+     * {@link io.leangen.graphql.annotations.GraphQLTimeout} are enforced. Deadlines can be set for other resolvers
+     * (e.g. a default one for all) by providing an appropriately configured {@link TimeoutInterceptorFactory}.
+     *
+     * @param timeoutInterceptorFactory The factory to use
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withResolverTimeouts(TimeoutInterceptorFactory timeoutInterceptorFactory) {
+        this.timeoutInterceptorFactory = timeoutInterceptorFactory;
+        return this;
+    }
+
+    /**
+     * Enables the collection of per-resolver invocation counts, error counts and latencies.
+     * Use {@link io.leangen.graphql.execution.metrics.InMemoryResolverMetrics} to keep the metrics in memory,
+     * or a custom {@link ResolverMetrics} implementation to report them elsewhere.
+     *
+     * @param resolverMetrics The metrics to report the invocations to
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withResolverMetrics(ResolverMetrics resolverMetrics) {
+        this.resolverMetrics = resolverMetrics;
+        return this;
+    }
+
     @Deprecated
     public GraphQLSchemaGenerator withAdditionalTypes(Collection<GraphQLType> additionalTypes) {
         return withAdditionalTypes(additionalTypes, new NoOpCodeRegistryBuilder());
@@ -843,7 +980,7 @@ public class GraphQLSchemaGenerator {
      * ensuring the builder is in a valid state
      */
     private void init() {
-        GeneratorConfiguration configuration = new GeneratorConfiguration(interfaceStrategy, scalarStrategy, typeTransformer, basePackages, javaDeprecationConfig);
+        GeneratorConfiguration configuration = new GeneratorConfiguration(interfaceStrategy, scalarStrategy, typeTransformer, basePackages, javaDeprecationConfig, methodInvokerFactory);
 
         //Modules must go first to get a chance to change other settings
         List<Module> modules = Defaults.modules();
@@ -871,7 +1008,7 @@ public class GraphQLSchemaGenerator {
             }
         }
 
-        List<ResolverBuilder> resolverBuilders = Collections.singletonList(new AnnotatedResolverBuilder());
+        List<ResolverBuilder> resolverBuilders = Collections.singletonList(new AnnotatedResolverBuilder().withMethodInvokerFactory(methodInvokerFactory));
         for (ExtensionProvider<GeneratorConfiguration, ResolverBuilder> provider : resolverBuilderProviders) {
             resolverBuilders = provider.getExtensions(configuration, new ExtensionList<>(resolverBuilders));
         }
@@ -879,8 +1016,8 @@ public class GraphQLSchemaGenerator {
         operationSourceRegistry.registerGlobalResolverBuilders(resolverBuilders);
 
         List<ResolverBuilder> nestedResolverBuilders = Arrays.asList(
-                new AnnotatedResolverBuilder(),
-                new BeanResolverBuilder(basePackages).withJavaDeprecation(javaDeprecationConfig));
+                new AnnotatedResolverBuilder().withMethodInvokerFactory(methodInvokerFactory),
+                new BeanResolverBuilder(basePackages).withJavaDeprecation(javaDeprecationConfig).withMethodInvokerFactory(methodInvokerFactory));
         for (ExtensionProvider<GeneratorConfiguration, ResolverBuilder> provider : nestedResolverBuilderProviders) {
             nestedResolverBuilders = provider.getExtensions(configuration, new ExtensionList<>(nestedResolverBuilders));
         }
@@ -936,6 +1073,14 @@ public class GraphQLSchemaGenerator {
         for (ExtensionProvider<GeneratorConfiguration, ResolverInterceptorFactory> provider : this.interceptorFactoryProviders) {
             interceptorFactories = provider.getExtensions(configuration, new ExtensionList<>(interceptorFactories));
         }
+        //Metrics and then deadlines always come first, so they cover all other interceptors.
+        //Caching always comes last, so that all other interceptors run even when the cached result is used.
+        interceptorFactories = new ArrayList<>(interceptorFactories);
+        interceptorFactories.add(0, timeoutInterceptorFactory);
+        if (resolverMetrics != null) {
+            interceptorFactories.add(0, new MetricsInterceptorFactory(resolverMetrics));
+        }
+        interceptorFactories.add(resolverCacheManager);
         interceptorFactory = new DelegatingResolverInterceptorFactory(interceptorFactories);
 
         environment = new GlobalEnvironment(messageBundle, new Relay(), new TypeRegistry(additionalTypes.values()),
@@ -982,6 +1127,8 @@ public class GraphQLSchemaGenerator {
      * @return A GraphQL schema
      */
     public GraphQLSchema generate() {
+        SchemaGenerationPhases phases = new SchemaGenerationPhases();
+        phases.begin("init");
         init();
 
         final String queryRootName = messageBundle.interpolate(queryRoot);
@@ -994,9 +1141,11 @@ public class GraphQLSchemaGenerator {
                 new SchemaTransformerRegistry(transformers), valueMapperFactory, typeInfoGenerator, messageBundle, interfaceStrategy,
                 scalarStrategy, typeTransformer, abstractInputHandler, new DelegatingInputFieldBuilder(inputFieldBuilders),
                 interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, additionalTypes.values(),
-                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, codeRegistry);
+                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, codeRegistry, dataLoaderOptions, asyncExecutor, bulkheads);
+        phases.begin("operations");
         OperationMapper operationMapper = new OperationMapper(queryRootName, mutationRootName, subscriptionRootName, buildContext);
 
+        phases.begin("assembly");
         GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
         builder.query(newObject()
                 .name(queryRootName)
@@ -1031,9 +1180,13 @@ public class GraphQLSchemaGenerator {
 
         builder.codeRegistry(buildContext.codeRegistry.build());
 
+        phases.begin("processing");
         applyProcessors(builder, buildContext);
         buildContext.executePostBuildHooks();
-        return builder.build();
+        phases.begin("build");
+        GraphQLSchema schema = builder.build();
+        phases.end();
+        return schema;
     }
 
     private void applyProcessors(GraphQLSchema.Builder builder, BuildContext buildContext) {
@@ -0,0 +1,19 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a (blocking) resolver method/field, or all resolvers of a class, to be invoked asynchronously
+ * on the executor configured via {@link io.leangen.graphql.GraphQLSchemaGenerator#withAsyncExecutor(java.util.concurrent.Executor)},
+ * so that sibling fields can be resolved concurrently.
+ * The result is delivered as a {@link java.util.concurrent.CompletableFuture}, without affecting the mapped type.
+ * <p>Resolvers that are asynchronous already (those of subscriptions, and those returning
+ * a {@link java.util.concurrent.CompletionStage} or a {@link org.reactivestreams.Publisher}) are left as they are.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
+public @interface GraphQLAsync {
+}
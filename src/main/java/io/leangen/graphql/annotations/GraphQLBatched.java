@@ -0,0 +1,20 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a resolver method accepting a {@link GraphQLContext} list of sources and returning a list of results
+ * (one per source, in the same order) to be resolved in batches, through a per-request {@link org.dataloader.DataLoader}.
+ * Works with any execution strategy, unlike graphql-java's deprecated {@link graphql.execution.batched.Batched},
+ * which requires the {@link graphql.execution.batched.BatchedExecutionStrategy}.
+ *
+ * @see io.leangen.graphql.execution.BatchLoaderFetcher
+ * @see io.leangen.graphql.GraphQLSchemaGenerator#withDataLoaderBatching(java.util.function.Supplier)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface GraphQLBatched {
+}
@@ -0,0 +1,27 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caps the number of concurrent in-flight invocations of the annotated resolver method/field.
+ * When placed on a class, the limit is shared by all the resolvers declared in it.
+ *
+ * @see io.leangen.graphql.execution.Bulkhead
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
+public @interface GraphQLBulkhead {
+
+    /**
+     * @return The maximum number of invocations in flight at the same time
+     */
+    int maxConcurrent();
+
+    /**
+     * @return The maximum number of invocations waiting for a free slot, beyond which new invocations fail immediately
+     */
+    int maxQueued() default 0;
+}
@@ -0,0 +1,43 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks a resolver method/field to have its results cached across requests, keyed by the source object's {@link GraphQLId}
+ * and the argument values, injected ones included. Invocations on sources not exposing an ID are never cached,
+ * and neither are the resolvers injecting values not compared by value (e.g. {@link graphql.schema.DataFetchingEnvironment}).
+ * Best suited for slowly changing reference data. As the cached results are shared between requests, they must not be mutated.
+ *
+ * @see io.leangen.graphql.execution.caching.ResolverCacheManager
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface GraphQLCacheable {
+
+    /**
+     * @return The time after which a cached result expires, counted from the moment it was cached
+     */
+    long ttl() default 60;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * @return The maximum total weight of the cached results. Each result weighs 1,
+     * except collections, maps and arrays, which weigh 1 plus the number of their elements.
+     */
+    long maxWeight() default 10_000;
+
+    /**
+     * Enables an additional off-heap tier, consulted when a result is not found in the (on-heap) cache described above.
+     * The results in this tier are kept serialized by the {@link io.leangen.graphql.execution.caching.ResultSerializer}
+     * given to the {@link io.leangen.graphql.execution.caching.ResolverCacheManager}, and are deserialized on each hit.
+     * Thus, the result types must survive a round trip through the serializer, which is required for the tier to be enabled.
+     *
+     * @return The maximum number of bytes taken by the serialized results in the off-heap tier, or 0 to disable it
+     */
+    long offHeapCapacity() default 0;
+}
@@ -10,4 +10,13 @@ import java.lang.annotation.Target;
 public @interface GraphQLComplexity {
     
     String value();
+
+    /**
+     * Declares that the score of this field does not depend on the values of its arguments, so that the variables
+     * supplying them are not considered when caching the complexity of an operation. Only meant for scores that are
+     * the same for any argument values, as the score computed for the first values seen is reused for all others.
+     *
+     * @return Whether the score of this field is independent of the operation variables
+     */
+    boolean variableIndependent() default false;
 }
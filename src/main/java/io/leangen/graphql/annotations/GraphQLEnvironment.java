@@ -10,6 +10,7 @@ import java.lang.annotation.Target;
  * Currently, the annotated parameter is allowed to be of the following types:
  * <ol>
  * <li>{@code Set<String>} - Injects the list of names of requested direct sub-fields</li>
+ * <li>{@link io.leangen.graphql.execution.FieldProjection} - Injects the nested requested sub-fields, mapped to the Java properties backing them</li>
  * <li>{@link graphql.language.Field} - Injects the AST {@link graphql.language.Field} currently being resolved</li>
  * <li>{@code List<Field>} - Injects all the AST {@link graphql.language.Field}s on the current level</li>
  * <li>{@link io.leangen.graphql.metadata.strategy.value.ValueMapper} - Injects a {@link io.leangen.graphql.metadata.strategy.value.ValueMapper} appropriate for the current resolver</li>
@@ -0,0 +1,24 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a resolver method/field, or all resolvers of a class, to have their results memoized for the duration of a single request.
+ * Repeated invocations with the same source object and the same argument values (e.g. caused by aliases, fragments
+ * or the same entity appearing multiple times in a list) then reuse the first result instead of invoking the resolver again.
+ * <p>Source objects exposing a {@link GraphQLId} (via a public field or a getter) are considered the same if they are of the same class
+ * and have equal IDs. All other source objects are compared by identity.</p>
+ * <p>The values of injected arguments (e.g. the selected sub-fields injected via {@link GraphQLEnvironment}) must be equal too.
+ * Resolvers injecting values of types not compared by value (e.g. {@link io.leangen.graphql.execution.ResolutionEnvironment})
+ * could never reuse a result, so they're not memoized at all. The memoized result is looked up after all the
+ * {@link io.leangen.graphql.execution.ResolverInterceptor}s ran, so e.g. authorization checks are never skipped.</p>
+ * <p>The memoized results are kept in the request's {@link graphql.GraphQLContext}, so memoization only takes effect
+ * when the default context is used (as is always the case when executing via {@link io.leangen.graphql.GraphQLRuntime}).</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
+public @interface GraphQLMemoized {
+}
@@ -0,0 +1,23 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets the deadline for resolving the annotated method/field, or all resolvers of the annotated class.
+ * Once the deadline passes, the field resolves to an error, and the {@link java.util.concurrent.CompletableFuture}
+ * or {@link org.reactivestreams.Publisher} returned by the resolver (if any) gets cancelled.
+ *
+ * @see io.leangen.graphql.execution.TimeoutInterceptorFactory
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
+public @interface GraphQLTimeout {
+
+    long value();
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,144 @@
+package io.leangen.graphql.execution;
+
+import graphql.GraphQLError;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationState;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import io.leangen.graphql.annotations.GraphQLBatched;
+import io.leangen.graphql.metadata.Operation;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Resolves a batched operation (one whose resolvers, marked with {@link GraphQLBatched}, accept a list of sources
+ * and return a list of results) through a per-request {@link DataLoader}, making batching work with any execution strategy,
+ * including the default {@link graphql.execution.AsyncExecutionStrategy}.
+ * <p>Each invocation only enqueues its source into the loader registered for this operation in the request's
+ * {@link DataLoaderRegistry}. The loaders are dispatched by graphql-java's {@link DataLoaderDispatcherInstrumentation},
+ * at which point the underlying resolver is invoked once per distinct set of provided arguments,
+ * with all the sources enqueued in the meantime. Note that the maximum batch size
+ * (see {@link DataLoaderOptions#setMaxBatchSize(int)}) limits the number of invocations dispatched together,
+ * before they get grouped by arguments.</p>
+ * <p>If the request has no registry of its own (see {@link io.leangen.graphql.GraphQLRuntime}),
+ * each source is resolved immediately as a batch of one.</p>
+ */
+public class BatchLoaderFetcher implements DataFetcher<Object> {
+
+    private static final AtomicLong loaderCounter = new AtomicLong();
+
+    private final OperationExecutor executor;
+    private final Supplier<DataLoaderOptions> options;
+    private final String loaderName;
+
+    public BatchLoaderFetcher(Operation operation, OperationExecutor executor, Supplier<DataLoaderOptions> options) {
+        if (!supports(operation)) {
+            throw new IllegalArgumentException("Operation \"" + operation.getName() + "\" is not batched via @GraphQLBatched");
+        }
+        this.executor = executor;
+        this.options = options;
+        this.loaderName = BatchLoaderFetcher.class.getName() + "." + operation.getName() + "#" + loaderCounter.incrementAndGet();
+    }
+
+    /**
+     * @param operation The operation to check
+     *
+     * @return {@code true} if the operation's resolvers are marked with {@link GraphQLBatched}, as opposed to graphql-java's
+     * deprecated {@link graphql.execution.batched.Batched}, which is left to the {@link graphql.execution.batched.BatchedExecutionStrategy}
+     */
+    public static boolean supports(Operation operation) {
+        return operation.isBatched() && operation.getResolvers().stream()
+                .allMatch(resolver -> resolver.getTypedElement().isAnnotationPresent(GraphQLBatched.class));
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment env) throws Exception {
+        DataLoaderRegistry registry = env.getDataLoaderRegistry();
+        if (registry == null || registry == DataLoaderDispatcherInstrumentationState.EMPTY_DATALOADER_REGISTRY) {
+            return load(Collections.singletonList(env)).thenApply(results -> results.get(0));
+        }
+        DataLoader<DataFetchingEnvironment, Object> loader = registry.computeIfAbsent(loaderName,
+                name -> DataLoader.newDataLoader(this::load, options.get()));
+        return loader.load(env);
+    }
+
+    /**
+     * Resolves all the enqueued invocations, grouped by the provided arguments
+     *
+     * @param environments The environments of all the enqueued invocations, one per source
+     *
+     * @return The results in the same order as the given environments
+     */
+    private CompletableFuture<List<Object>> load(List<DataFetchingEnvironment> environments) {
+        Map<Map<String, Object>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < environments.size(); i++) {
+            groups.computeIfAbsent(environments.get(i).getArguments(), args -> new ArrayList<>()).add(i);
+        }
+        Object[] results = new Object[environments.size()];
+        List<CompletableFuture<Void>> batches = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups.values()) {
+            batches.add(resolve(group, environments).thenAccept(batch -> {
+                for (int i = 0; i < group.size(); i++) {
+                    results[group.get(i)] = batch.get(i);
+                }
+            }));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+                .thenApply(done -> Arrays.asList(results));
+    }
+
+    private CompletableFuture<List<Object>> resolve(List<Integer> group, List<DataFetchingEnvironment> environments) {
+        List<Object> sources = new ArrayList<>(group.size());
+        group.forEach(index -> sources.add(environments.get(index).getSource()));
+        DataFetchingEnvironment batchEnv = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environments.get(group.get(0)))
+                .source(sources)
+                .build();
+        try {
+            Object result = executor.execute(batchEnv);
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).toCompletableFuture().thenApply(res -> split(res, sources.size()));
+            }
+            return CompletableFuture.completedFuture(split(result, sources.size()));
+        } catch (Exception e) {
+            CompletableFuture<List<Object>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private List<Object> split(Object result, int expectedSize) {
+        List<GraphQLError> errors = Collections.emptyList();
+        if (result instanceof DataFetcherResult) {
+            errors = ((DataFetcherResult<?>) result).getErrors();
+            result = ((DataFetcherResult<?>) result).getData();
+        }
+        List<Object> results;
+        if (result == null) {
+            results = new ArrayList<>(Collections.nCopies(expectedSize, null));
+        } else if (result instanceof List && ((List<?>) result).size() == expectedSize) {
+            results = new ArrayList<>((List<?>) result);
+        } else {
+            throw new IllegalStateException("Batched resolver returned " + (result instanceof List ? ((List<?>) result).size() : 1)
+                    + " result(s) for " + expectedSize + " source(s)");
+        }
+        //The errors belong to the batch as a whole, so they're reported only once
+        if (!errors.isEmpty() && expectedSize > 0) {
+            results.set(0, DataFetcherResult.newResult().data(results.get(0)).errors(errors).build());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,145 @@
+package io.leangen.graphql.execution;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Limits the number of concurrent in-flight invocations, isolating the resources used by one group of resolvers
+ * (e.g. a connection pool) from being exhausted by another.
+ * <p>An invocation is in flight until it returns or, if it returns a {@link CompletionStage}, until that stage completes.
+ * Invocations exceeding the limit wait in a bounded queue, without blocking the calling thread: a future is returned
+ * in their place, and they are dispatched to an executor once a slot frees up. Once the queue is full as well,
+ * invocations fail immediately with a {@link RejectedExecutionException}.</p>
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    /**
+     * @param name The name used in error messages
+     * @param maxConcurrent The maximum number of invocations in flight at the same time
+     * @param maxQueued The maximum number of invocations waiting for a free slot
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        if (maxConcurrent <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Bulkhead " + name + " must allow at least one concurrent invocation and a non-negative number of queued ones");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Runs the invocation immediately if a slot is free, or queues it otherwise
+     *
+     * @param invocation The invocation to run
+     * @param executor The executor to dispatch the invocation to, if it has to wait for a free slot
+     *
+     * @return The result of the invocation, or a future of it if the invocation had to wait
+     *
+     * @throws RejectedExecutionException If neither a slot nor a place in the queue is free
+     * @throws Exception If the invocation itself throws
+     */
+    public Object execute(Callable<Object> invocation, Executor executor) throws Exception {
+        CompletableFuture<Object> deferred;
+        synchronized (queue) {
+            if (inFlight < maxConcurrent) {
+                inFlight++;
+                deferred = null;
+            } else if (queue.size() < maxQueued) {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                queue.add(() -> {
+                    try {
+                        executor.execute(() -> runDeferred(invocation, future));
+                    } catch (RejectedExecutionException e) {
+                        future.completeExceptionally(e);
+                        release();
+                    }
+                });
+                deferred = future;
+            } else {
+                throw new RejectedExecutionException("Bulkhead " + name + " is full: " + maxConcurrent
+                        + " invocations in flight and " + maxQueued + " waiting");
+            }
+        }
+        return deferred != null ? deferred : run(invocation);
+    }
+
+    private void runDeferred(Callable<Object> invocation, CompletableFuture<Object> future) {
+        try {
+            Object result = run(invocation);
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete((res, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(res);
+                    }
+                });
+            } else {
+                future.complete(result);
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Runs the invocation in the already acquired slot, releasing the slot once the invocation completes
+     */
+    private Object run(Callable<Object> invocation) throws Exception {
+        Object result;
+        try {
+            result = invocation.call();
+        } catch (Exception | Error e) {
+            release();
+            throw e;
+        }
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((res, error) -> release());
+        } else {
+            release();
+        }
+        return result;
+    }
+
+    /**
+     * Hands the slot over to the next queued invocation, if any, or frees it otherwise
+     */
+    private void release() {
+        Runnable next;
+        synchronized (queue) {
+            next = queue.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        next.run();
+    }
+
+    public int getInFlight() {
+        synchronized (queue) {
+            return inFlight;
+        }
+    }
+
+    public int getQueued() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,99 @@
+package io.leangen.graphql.execution;
+
+import io.leangen.graphql.annotations.GraphQLBulkhead;
+import io.leangen.graphql.metadata.Resolver;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Assigns {@link Bulkhead}s to resolvers, either as configured via {@link GraphQLBulkhead},
+ * or as registered programmatically (e.g. per operation name or per operation source bean type).
+ * Programmatic registrations take precedence, in the order of registration.
+ * All resolvers sharing an annotated class share its bulkhead.
+ */
+public class BulkheadRegistry {
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Map<AnnotatedElement, Bulkhead> annotated = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a bulkhead to be shared by all the selected resolvers
+     *
+     * @param selector Selects the resolvers the bulkhead applies to
+     * @param bulkhead The bulkhead to register
+     *
+     * @return This registry, to allow method chaining
+     */
+    public BulkheadRegistry register(Predicate<Resolver> selector, Bulkhead bulkhead) {
+        registrations.add(new Registration(selector, bulkhead));
+        return this;
+    }
+
+    /**
+     * Registers a bulkhead to be shared by all the resolvers of the operations with the given name
+     *
+     * @param operationName The name of the operations the bulkhead applies to
+     * @param maxConcurrent The maximum number of invocations in flight at the same time
+     * @param maxQueued The maximum number of invocations waiting for a free slot
+     *
+     * @return This registry, to allow method chaining
+     */
+    public BulkheadRegistry forOperation(String operationName, int maxConcurrent, int maxQueued) {
+        return register(resolver -> resolver.getOperationName().equals(operationName), new Bulkhead(operationName, maxConcurrent, maxQueued));
+    }
+
+    /**
+     * Registers a bulkhead to be shared by all the resolvers declared in the given operation source bean type
+     *
+     * @param beanType The type declaring the resolvers the bulkhead applies to
+     * @param maxConcurrent The maximum number of invocations in flight at the same time
+     * @param maxQueued The maximum number of invocations waiting for a free slot
+     *
+     * @return This registry, to allow method chaining
+     */
+    public BulkheadRegistry forBean(Class<?> beanType, int maxConcurrent, int maxQueued) {
+        return register(resolver -> beanType.isAssignableFrom(resolver.getExecutable().getDelegate().getDeclaringClass()),
+                new Bulkhead(beanType.getSimpleName(), maxConcurrent, maxQueued));
+    }
+
+    /**
+     * @param resolver The resolver to find the bulkhead for
+     * @return The bulkhead applicable to the given resolver, or {@code null} if there is none
+     */
+    public Bulkhead getBulkhead(Resolver resolver) {
+        for (Registration registration : registrations) {
+            if (registration.selector.test(resolver)) {
+                return registration.bulkhead;
+            }
+        }
+        AnnotatedElement member = resolver.getExecutable().getDelegate();
+        if (member.isAnnotationPresent(GraphQLBulkhead.class)) {
+            return annotated.computeIfAbsent(member, element -> create(resolver.getOperationName(), element.getAnnotation(GraphQLBulkhead.class)));
+        }
+        Class<?> declaringClass = resolver.getExecutable().getDelegate().getDeclaringClass();
+        if (declaringClass.isAnnotationPresent(GraphQLBulkhead.class)) {
+            return annotated.computeIfAbsent(declaringClass, type -> create(declaringClass.getSimpleName(), type.getAnnotation(GraphQLBulkhead.class)));
+        }
+        return null;
+    }
+
+    private static Bulkhead create(String name, GraphQLBulkhead config) {
+        return new Bulkhead(name, config.maxConcurrent(), config.maxQueued());
+    }
+
+    private static class Registration {
+
+        private final Predicate<Resolver> selector;
+        private final Bulkhead bulkhead;
+
+        Registration(Predicate<Resolver> selector, Bulkhead bulkhead) {
+            this.selector = selector;
+            this.bulkhead = bulkhead;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.leangen.graphql.execution;
+
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.ResolverInvocationEvent;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.Resolver;
+
+import java.util.Collections;
+
+/**
+ * A lightweight {@link DataFetcher} used in place of {@link OperationExecutor} for trivial operations,
+ * typically plain getters or public fields. Such operations have a single resolver that accepts no arguments,
+ * has no applicable interceptors and returns a value that needs no output conversion,
+ * so the resolver can be invoked directly and its raw result returned as-is.
+ * This skips the construction of {@link ResolutionEnvironment} and {@link InvocationContext} on each invocation,
+ * while producing the exact same result {@link OperationExecutor} would.
+ */
+public class DirectResolverFetcher implements DataFetcher<Object> {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Resolver resolver;
+
+    private DirectResolverFetcher(Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Creates a direct fetcher for the given operation, if the operation is trivial enough to be resolved without
+     * going through {@link OperationExecutor}
+     *
+     * @param operation The operation to create the fetcher for
+     * @param globalEnvironment The global environment holding the registered output converters
+     * @param interceptorFactory The factory providing the interceptors applicable to the operation's resolver
+     * @param bulkheads The registry providing the bulkhead applicable to the operation's resolver
+     *
+     * @return The direct fetcher for the operation, or {@code null} if the operation is not trivial
+     */
+    public static DirectResolverFetcher forOperation(Operation operation, GlobalEnvironment globalEnvironment,
+                                                     ResolverInterceptorFactory interceptorFactory, BulkheadRegistry bulkheads) {
+        if (operation.getOperationType() != OperationDefinition.Operation.QUERY || operation.isBatched() || operation.getResolvers().size() != 1) {
+            return null;
+        }
+        Resolver resolver = operation.getResolvers().iterator().next();
+        if (!resolver.getArguments().isEmpty()
+                || OperationExecutor.isAsync(operation, resolver)
+                || OperationExecutor.isMemoized(resolver)
+                || bulkheads.getBulkhead(resolver) != null
+                || !interceptorFactory.getInterceptors(new ResolverInterceptorFactoryParams(resolver)).isEmpty()
+                || !globalEnvironment.converters.optimize(Collections.singletonList(resolver.getTypedElement())).getOutputConverters().isEmpty()) {
+            return null;
+        }
+        return new DirectResolverFetcher(resolver);
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment env) throws Exception {
+        if (FlightRecorderEvents.SUPPORTED) {
+            ResolverInvocationEvent event = ResolverInvocationEvent.start(resolver.getOperationName(), env);
+            if (event != null) {
+                return event.record(() -> OperationExecutor.invoke(resolver, env.getSource(), NO_ARGUMENTS));
+            }
+        }
+        return OperationExecutor.invoke(resolver, env.getSource(), NO_ARGUMENTS);
+    }
+
+    public Resolver getResolver() {
+        return resolver;
+    }
+}
@@ -16,6 +16,7 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
+import io.leangen.graphql.util.ContextUtils;
 import io.leangen.graphql.util.GraphQLUtils;
 
 import java.util.ArrayList;
@@ -34,6 +35,32 @@ public class Directives {
 
     private static final ValuesResolver valuesResolver = new ValuesResolver();
 
+    /**
+     * Gets the directives applicable at the location of the given step, reusing the ones already parsed
+     * for the same location within the same request. The directives only depend on the document, the variables
+     * and the location in the document, so e.g. a resolver inspecting them for each element of a list
+     * only pays for the parsing (and the traversal of the document for fragment directives) once.
+     * Nothing is reused if the request context is not the default one.
+     *
+     * @param env The environment of the field being resolved
+     * @param step The step to get the directives for, or {@code null} for the step of the field being resolved
+     *
+     * @return The directives applicable at the step's location
+     */
+    static Directives get(DataFetchingEnvironment env, ExecutionStepInfo step) {
+        Map<Location, Directives> cache = ContextUtils.getRequestScopedValues(env.getContext());
+        if (cache == null) {
+            return new Directives(env, step);
+        }
+        Location location = new Location(env, step);
+        Directives directives = cache.get(location);
+        if (directives == null) {
+            directives = new Directives(env, step);
+            cache.putIfAbsent(location, directives);
+        }
+        return directives;
+    }
+
     Directives(DataFetchingEnvironment env, ExecutionStepInfo step) {
         List<Field> fields = env.getMergedField().getFields();
         if (step != null) {
@@ -44,7 +71,7 @@ public class Directives {
         fields.forEach(field ->
                 directives.merge(Introspection.DirectiveLocation.FIELD, parseDirectives(field.getDirectives(), env), (directiveMap1, directiveMap2) -> {
                     directiveMap2.forEach((directiveName, directiveValues) -> directiveMap1.merge(directiveName, directiveValues,
-                            (valueList1, valueList2) -> Stream.concat(valueList1.stream(), valueList2.stream()).collect(Collectors.toList()))
+                            (valueList1, valueList2) -> Collections.unmodifiableList(Stream.concat(valueList1.stream(), valueList2.stream()).collect(Collectors.toList())))
                     );
                     return directiveMap1;
                 }));
@@ -92,7 +119,8 @@ public class Directives {
 
     private Map<String, List<Map<String, Object>>> parseDirectives(List<Directive> directives, DataFetchingEnvironment env) {
         return directives.stream().collect(
-                Collectors.groupingBy(Directive::getName, Collectors.mapping(dir -> parseDirective(dir, env), Collectors.toList())));
+                Collectors.groupingBy(Directive::getName, Collectors.mapping(dir -> parseDirective(dir, env),
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))));
     }
 
     private Map<String, Object> parseDirective(Directive dir, DataFetchingEnvironment env) {
@@ -113,6 +141,61 @@ public class Directives {
         return getDirectives().get(location).get(directiveName);
     }
 
+    /**
+     * Identifies a location in the document. The path (sans list indices) alone is ambiguous, as differently typed
+     * fragments may select different fields under the same key, and so is a field node alone, as fragments may be
+     * spread in multiple places. The nodes are compared by identity, which is what the (per request) document guarantees.
+     */
+    private static class Location {
+
+        private final List<String> path;
+        private final List<String> stepPath;
+        private final List<Field> fields;
+        private final List<Field> mergedFields;
+
+        Location(DataFetchingEnvironment env, ExecutionStepInfo step) {
+            this.path = env.getExecutionStepInfo().getPath().getKeysOnly();
+            this.mergedFields = env.getMergedField().getFields();
+            if (step == null) {
+                this.stepPath = path;
+                this.fields = mergedFields;
+            } else {
+                this.stepPath = step.getPath().getKeysOnly();
+                this.fields = step.getField() != null ? step.getField().getFields() : Collections.emptyList();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Location)) return false;
+            Location that = (Location) other;
+            return path.equals(that.path) && stepPath.equals(that.stepPath)
+                    && sameNodes(fields, that.fields) && sameNodes(mergedFields, that.mergedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * path.hashCode() + stepPath.hashCode();
+            for (Field field : fields) {
+                hash = 31 * hash + System.identityHashCode(field);
+            }
+            return hash;
+        }
+
+        private static boolean sameNodes(List<Field> fields, List<Field> others) {
+            if (fields.size() != others.size()) {
+                return false;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i) != others.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static class FragmentDirectiveCollector extends QueryVisitorStub {
 
         private final List<Directive> inlineFragmentDirs;
@@ -0,0 +1,228 @@
+package io.leangen.graphql.execution;
+
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.util.ClassUtils;
+import io.leangen.graphql.util.ContextUtils;
+import io.leangen.graphql.util.Directives;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The (nested) selection of the field being resolved, with each selected field mapped back to the Java property
+ * backing it, if any. Meant for data access layers wanting to fetch only what the query asked for,
+ * e.g. by pruning the columns and joins of an SQL query, or the projection of a document store query.
+ * <p>A selected field is considered backed by a property if it is resolved by a public field, or by a getter
+ * declared by the Java type the parent GraphQL type is mapped to. Other selected fields (e.g. those resolved
+ * by methods accepting a {@link io.leangen.graphql.annotations.GraphQLContext} source) are computed,
+ * and have no property name. Fields selected under different aliases, or via fragments on different types,
+ * are merged by name.</p>
+ * <p>Injectable via {@link io.leangen.graphql.annotations.GraphQLEnvironment}. The projection is computed once
+ * per location in the document within a request, so e.g. a resolver invoked for each element of a list
+ * receives the same (immutable) instance each time. Nothing is reused if the request context is not the default one.
+ * Projections are not reused across requests either, as they depend on the variables deciding the inclusion
+ * of the selections (via {@code @include} and {@code @skip}), and a document is generally parsed anew for each request.</p>
+ * <p>Unlike the cheap {@code Set<String>} of the immediately selected field names, also injectable via
+ * {@link io.leangen.graphql.annotations.GraphQLEnvironment}, building a projection looks up the property backing
+ * each (transitively) selected field, so only inject it where that is needed.</p>
+ */
+public class FieldProjection {
+
+    private final String name;
+    private final String propertyName;
+    private final Map<String, FieldProjection> fields;
+
+    private FieldProjection(String name, String propertyName, Map<String, FieldProjection> fields) {
+        this.name = name;
+        this.propertyName = propertyName;
+        this.fields = fields;
+    }
+
+    /**
+     * @param env The environment of the field being resolved
+     *
+     * @return The projection of the field being resolved
+     */
+    public static FieldProjection of(DataFetchingEnvironment env) {
+        Map<Location, FieldProjection> cache = ContextUtils.getRequestScopedValues(env.getContext());
+        if (cache == null) {
+            return project(env);
+        }
+        Location location = new Location(env);
+        FieldProjection projection = cache.get(location);
+        if (projection == null) {
+            projection = project(env);
+            cache.putIfAbsent(location, projection);
+        }
+        return projection;
+    }
+
+    /**
+     * @return The name of the GraphQL field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The name of the Java property backing the field, or {@code null} if the field is computed
+     * (or is the root of the projection)
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * @return The immediately selected sub-fields, keyed by their GraphQL names, in the order of selection
+     */
+    public Map<String, FieldProjection> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param name The GraphQL name of the sub-field
+     *
+     * @return The projection of the given immediately selected sub-field, or {@code null} if it is not selected
+     */
+    public FieldProjection getField(String name) {
+        return fields.get(name);
+    }
+
+    public boolean contains(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * @return The names of the Java properties backing the immediately selected sub-fields
+     */
+    public Set<String> getPropertyNames() {
+        Set<String> propertyNames = new LinkedHashSet<>();
+        fields.values().forEach(field -> {
+            if (field.propertyName != null) {
+                propertyNames.add(field.propertyName);
+            }
+        });
+        return propertyNames;
+    }
+
+    /**
+     * @return The dot-separated paths of the Java properties backing all the (transitively) selected sub-fields,
+     * e.g. {@code author.name}. Sub-fields of computed fields are not included, as they are not reachable via properties.
+     */
+    public Set<String> getPropertyPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        collectPropertyPaths("", paths);
+        return paths;
+    }
+
+    private void collectPropertyPaths(String prefix, Set<String> paths) {
+        fields.values().forEach(field -> {
+            if (field.propertyName != null) {
+                String path = prefix + field.propertyName;
+                paths.add(path);
+                field.collectPropertyPaths(path + ".", paths);
+            }
+        });
+    }
+
+    private static FieldProjection project(DataFetchingEnvironment env) {
+        return new FieldProjection(env.getField().getName(), null, project(env.getSelectionSet().getImmediateFields()));
+    }
+
+    private static Map<String, FieldProjection> project(List<SelectedField> selectedFields) {
+        if (selectedFields.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<SelectedField>> byName = new LinkedHashMap<>();
+        selectedFields.forEach(field -> byName.computeIfAbsent(field.getName(), name -> new ArrayList<>()).add(field));
+        Map<String, FieldProjection> projections = new LinkedHashMap<>();
+        byName.forEach((name, fields) -> {
+            String propertyName = null;
+            List<SelectedField> subFields = new ArrayList<>();
+            for (SelectedField field : fields) {
+                if (propertyName == null) {
+                    propertyName = findPropertyName(field);
+                }
+                subFields.addAll(field.getSelectionSet().getImmediateFields());
+            }
+            projections.put(name, new FieldProjection(name, propertyName, project(subFields)));
+        });
+        return Collections.unmodifiableMap(projections);
+    }
+
+    private static String findPropertyName(SelectedField field) {
+        Optional<Operation> operation = Directives.getMappedOperation(field.getFieldDefinition());
+        if (!operation.isPresent() || !Directives.isMappedType(field.getObjectType())) {
+            return null;
+        }
+        Class<?> sourceType = ClassUtils.getRawType(Directives.getMappedType(field.getObjectType()).getType());
+        for (Resolver resolver : operation.get().getResolvers()) {
+            Member member = resolver.getExecutable().getDelegate();
+            //Only the members invoked on the source object itself are its properties
+            if (Modifier.isStatic(member.getModifiers()) || !resolver.getSourceTypes().isEmpty()
+                    || !member.getDeclaringClass().isAssignableFrom(sourceType)) {
+                continue;
+            }
+            if (member instanceof java.lang.reflect.Field) {
+                return member.getName();
+            }
+            if (ClassUtils.isGetter((Method) member)) {
+                return ClassUtils.getFieldNameFromGetter((Method) member);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the location of the projected field in the document,
+     * by the path (sans list indices) and the field nodes (compared by identity)
+     */
+    private static class Location {
+
+        private final List<String> path;
+        private final List<Field> fields;
+
+        Location(DataFetchingEnvironment env) {
+            this.path = env.getExecutionStepInfo().getPath().getKeysOnly();
+            this.fields = env.getMergedField().getFields();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Location)) return false;
+            Location that = (Location) other;
+            if (!path.equals(that.path) || fields.size() != that.fields.size()) {
+                return false;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i) != that.fields.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = path.hashCode();
+            for (Field field : fields) {
+                hash = 31 * hash + System.identityHashCode(field);
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.leangen.graphql.execution;
+
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identifies an invocation of a {@link io.leangen.graphql.annotations.GraphQLMemoized} resolver within a single request,
+ * by the resolver, the source object, the raw argument values and the values of the injected arguments
+ * (e.g. the selected sub-fields, that differ between aliases of the same field)
+ */
+class MemoizationKey {
+
+    private final Resolver resolver;
+    private final Object source;
+    private final Map<String, Object> arguments;
+    private final Object[] injected;
+    private final int hashCode;
+
+    MemoizationKey(Resolver resolver, Object source, Map<String, Object> arguments, Object[] injected) {
+        this.resolver = resolver;
+        this.source = toSourceKey(source);
+        this.arguments = arguments;
+        this.injected = injected;
+        this.hashCode = Objects.hash(System.identityHashCode(resolver), this.source, arguments, Arrays.hashCode(injected));
+    }
+
+    private static Object toSourceKey(Object source) {
+        if (source == null) {
+            return null;
+        }
+        return ClassUtils.getIdValue(source)
+                .<Object>map(id -> Arrays.asList(source.getClass(), id))
+                .orElseGet(() -> new IdentityKey(source));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MemoizationKey)) return false;
+        MemoizationKey that = (MemoizationKey) o;
+        return resolver == that.resolver
+                && Objects.equals(source, that.source)
+                && Objects.equals(arguments, that.arguments)
+                && Arrays.equals(injected, that.injected);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private static class IdentityKey {
+
+        private final Object source;
+
+        IdentityKey(Object source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).source == source;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source);
+        }
+    }
+}
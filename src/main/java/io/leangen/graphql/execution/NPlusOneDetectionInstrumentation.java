@@ -0,0 +1,249 @@
+package io.leangen.graphql.execution;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLFieldDefinition;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.util.Directives;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Detects the N+1 problem, i.e. nested operations resolved separately for each element of a list,
+ * where a single batched invocation (see {@link BatchLoaderFetcher}) could have resolved all of them at once.
+ * <p>During each request, the invocations of every non-batched operation accepting a {@link io.leangen.graphql.annotations.GraphQLContext}
+ * source are counted per list parent (e.g. {@code /users[0]/friends} for {@code /users[0]/friends[3]/posts}).
+ * Once the request completes, the operations invoked more than the configured number of times under a single list parent
+ * are reported, along with a suggestion of the equivalent batched resolver signature
+ * (see {@link io.leangen.graphql.annotations.GraphQLBatched}).</p>
+ */
+public class NPlusOneDetectionInstrumentation extends SimpleInstrumentation {
+
+    public static final String EXTENSION_KEY = "nPlusOne";
+
+    private final int threshold;
+    private final Consumer<List<Report>> reporter;
+    private final boolean reportInExtensions;
+    private final Map<GraphQLFieldDefinition, Optional<Operation>> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * @param threshold The number of invocations under a single list parent above which an operation is reported
+     * @param reporter The callback receiving the reports at the end of each request in which N+1 invocations were detected
+     * @param reportInExtensions Whether the reports should also be added to the response, under the {@value #EXTENSION_KEY} extension key
+     */
+    public NPlusOneDetectionInstrumentation(int threshold, Consumer<List<Report>> reporter, boolean reportInExtensions) {
+        this.threshold = threshold;
+        this.reporter = reporter;
+        this.reportInExtensions = reportInExtensions;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new InvocationCounts();
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        ExecutionStepInfo step = parameters.getExecutionStepInfo();
+        ResultPath parentPath = step.getPath().getParent();
+        if (parentPath != null && parentPath.isListSegment()) {
+            candidates.computeIfAbsent(parameters.getField(), NPlusOneDetectionInstrumentation::findCandidate)
+                    .ifPresent(operation -> parameters.<InvocationCounts>getInstrumentationState()
+                            .count(operation, parentPath.getParent(), step.getResultKey()));
+        }
+        return super.beginFieldFetch(parameters);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+        InvocationCounts counts = parameters.getInstrumentationState();
+        List<Report> reports = counts.getReports(threshold);
+        if (reports.isEmpty()) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        reporter.accept(reports);
+        if (!reportInExtensions) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        Map<Object, Object> extensions = new LinkedHashMap<>();
+        if (executionResult.getExtensions() != null) {
+            extensions.putAll(executionResult.getExtensions());
+        }
+        extensions.put(EXTENSION_KEY, reports.stream().map(Report::toSpecification).collect(Collectors.toList()));
+        return CompletableFuture.completedFuture(new ExecutionResultImpl(executionResult.getData(), executionResult.getErrors(), extensions));
+    }
+
+    /**
+     * Only the operations accepting a source object can be batched, and are thus worth reporting
+     */
+    private static Optional<Operation> findCandidate(GraphQLFieldDefinition field) {
+        return Directives.getMappedOperation(field)
+                .filter(operation -> !operation.isBatched())
+                .filter(operation -> operation.getResolvers().stream().anyMatch(resolver -> !resolver.getSourceTypes().isEmpty()));
+    }
+
+    private static String suggestBatchedResolver(Operation operation) {
+        Resolver resolver = operation.getResolvers().stream()
+                .filter(res -> !res.getSourceTypes().isEmpty())
+                .findFirst().orElseThrow(IllegalStateException::new);
+        return String.format("@GraphQLBatched List<%s> %s(@GraphQLContext List<%s> sources, ...)",
+                simpleName(GenericTypeReflector.box(resolver.getReturnType().getType())), operation.getName(),
+                simpleName(resolver.getSourceTypes().iterator().next()));
+    }
+
+    /**
+     * Prints the type as it would be written in the source, e.g. {@code Map<String, List<Integer>>}
+     */
+    private static String simpleName(Type type) {
+        if (type instanceof Class) {
+            return ((Class<?>) type).getSimpleName();
+        }
+        if (type instanceof ParameterizedType) {
+            return simpleName(((ParameterizedType) type).getRawType()) + Arrays.stream(((ParameterizedType) type).getActualTypeArguments())
+                    .map(NPlusOneDetectionInstrumentation::simpleName)
+                    .collect(Collectors.joining(", ", "<", ">"));
+        }
+        if (type instanceof GenericArrayType) {
+            return simpleName(((GenericArrayType) type).getGenericComponentType()) + "[]";
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcard = (WildcardType) type;
+            if (wildcard.getLowerBounds().length > 0) {
+                return "? super " + simpleName(wildcard.getLowerBounds()[0]);
+            }
+            return wildcard.getUpperBounds()[0] == Object.class ? "?" : "? extends " + simpleName(wildcard.getUpperBounds()[0]);
+        }
+        return type.getTypeName();
+    }
+
+    private static class InvocationCounts implements InstrumentationState {
+
+        private final Map<String, Count> counts = new ConcurrentHashMap<>();
+
+        void count(Operation operation, ResultPath listParent, String resultKey) {
+            counts.computeIfAbsent(listParent.toString() + "/" + resultKey, k -> new Count(operation, listParent, resultKey))
+                    .invocations.incrementAndGet();
+        }
+
+        List<Report> getReports(int threshold) {
+            if (counts.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<Report> reports = new ArrayList<>();
+            counts.values().stream()
+                    .filter(count -> count.invocations.get() > threshold)
+                    .forEach(count -> reports.add(new Report(count.operation.getName(), count.listParent.toString(),
+                            count.resultKey, count.listParent.getKeysOnly().size() + 1, count.invocations.get(), suggestBatchedResolver(count.operation))));
+            return reports;
+        }
+    }
+
+    private static class Count {
+
+        private final Operation operation;
+        private final ResultPath listParent;
+        private final String resultKey;
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        Count(Operation operation, ResultPath listParent, String resultKey) {
+            this.operation = operation;
+            this.listParent = listParent;
+            this.resultKey = resultKey;
+        }
+    }
+
+    public static class Report {
+
+        private final String operationName;
+        private final String listPath;
+        private final String resultKey;
+        private final int level;
+        private final int invocations;
+        private final String suggestion;
+
+        Report(String operationName, String listPath, String resultKey, int level, int invocations, String suggestion) {
+            this.operationName = operationName;
+            this.listPath = listPath;
+            this.resultKey = resultKey;
+            this.level = level;
+            this.invocations = invocations;
+            this.suggestion = suggestion;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * @return The path of the list under which the operation was repeatedly invoked
+         */
+        public String getListPath() {
+            return listPath;
+        }
+
+        /**
+         * @return The name (or alias) under which the operation's result appears in the response
+         */
+        public String getResultKey() {
+            return resultKey;
+        }
+
+        /**
+         * @return The level of the operation's result in the response, not counting list indices
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return The signature of the equivalent batched resolver
+         */
+        public String getSuggestion() {
+            return suggestion;
+        }
+
+        Map<String, Object> toSpecification() {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("operation", operationName);
+            spec.put("path", listPath + "[*]/" + resultKey);
+            spec.put("invocations", invocations);
+            spec.put("suggestion", suggestion);
+            return spec;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Operation %s invoked %d times under %s. Consider batching it: %s",
+                    operationName, invocations, listPath, suggestion);
+        }
+    }
+}
@@ -2,24 +2,38 @@ package io.leangen.graphql.execution;
 
 import graphql.GraphQLException;
 import graphql.execution.DataFetcherResult;
+import graphql.language.OperationDefinition;
 import graphql.schema.DataFetchingEnvironment;
+import io.leangen.graphql.annotations.GraphQLAsync;
+import io.leangen.graphql.annotations.GraphQLMemoized;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
+import io.leangen.graphql.generator.mapping.ArgumentInjectorRegistry;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.ResolverInvocationEvent;
 import io.leangen.graphql.metadata.Operation;
 import io.leangen.graphql.metadata.OperationArgument;
 import io.leangen.graphql.metadata.Resolver;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.ContextUtils;
 import io.leangen.graphql.util.Utils;
+import org.reactivestreams.Publisher;
 
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.leangen.graphql.util.GraphQLUtils.CLIENT_MUTATION_ID;
 
@@ -28,21 +42,50 @@ import static io.leangen.graphql.util.GraphQLUtils.CLIENT_MUTATION_ID;
  */
 public class OperationExecutor {
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final Object NULL_RESULT = new Object();
+
     private final Operation operation;
     private final ValueMapper valueMapper;
     private final GlobalEnvironment globalEnvironment;
     private final ConverterRegistry converterRegistry;
     private final DerivedTypeRegistry derivedTypes;
-    private final Map<Resolver, List<ResolverInterceptor>> interceptors;
+    private final OutputConversionPlan conversionPlan;
+    private final Map<Resolver, ArgumentInjector[]> argumentInjectors;
+    private final Map<Resolver, ResolverInterceptor.Continuation> invocationChains;
+    private final Set<Resolver> plainResolvers;
+    private final Set<Resolver> asyncResolvers;
+    private final Map<Resolver, Bulkhead> bulkheads;
+    private final Executor asyncExecutor;
 
     public OperationExecutor(Operation operation, ValueMapper valueMapper, GlobalEnvironment globalEnvironment, ResolverInterceptorFactory interceptorFactory) {
+        this(operation, valueMapper, globalEnvironment, interceptorFactory, null, new BulkheadRegistry());
+    }
+
+    /**
+     * @param operation The operation to execute
+     * @param valueMapper The mapper used to deserialize the operation's arguments
+     * @param globalEnvironment The globally shared environment
+     * @param interceptorFactory The factory providing the interceptors applicable to each resolver
+     * @param asyncExecutor The executor running the resolvers marked with {@link GraphQLAsync} and the invocations
+     *                      that had to wait for a free {@link Bulkhead} slot, or {@code null} to use {@link ForkJoinPool#commonPool()}
+     * @param bulkheads The registry providing the bulkheads limiting the concurrent invocations of each resolver
+     */
+    public OperationExecutor(Operation operation, ValueMapper valueMapper, GlobalEnvironment globalEnvironment,
+                             ResolverInterceptorFactory interceptorFactory, Executor asyncExecutor, BulkheadRegistry bulkheads) {
         this.operation = operation;
         this.valueMapper = valueMapper;
         this.globalEnvironment = globalEnvironment;
         this.converterRegistry = optimizeConverters(operation.getResolvers(), globalEnvironment.converters);
         this.derivedTypes = deriveTypes(operation.getResolvers(), converterRegistry);
-        this.interceptors = operation.getResolvers().stream().collect(Collectors.toMap(Function.identity(),
-                res -> interceptorFactory.getInterceptors(new ResolverInterceptorFactoryParams(res))));
+        this.conversionPlan = compileConversionPlan(operation.getResolvers(), converterRegistry, derivedTypes);
+        this.argumentInjectors = resolveArgumentInjectors(operation.getResolvers(), globalEnvironment.injectors);
+        this.asyncResolvers = operation.getResolvers().stream().filter(resolver -> isAsync(operation, resolver)).collect(Collectors.toSet());
+        Set<Resolver> memoizedResolvers = operation.getResolvers().stream().filter(OperationExecutor::isMemoized).collect(Collectors.toSet());
+        this.invocationChains = buildInvocationChains(operation.getResolvers(), interceptorFactory, memoizedResolvers);
+        this.bulkheads = findBulkheads(operation.getResolvers(), bulkheads);
+        this.plainResolvers = findPlainResolvers(operation.getResolvers(), asyncResolvers, invocationChains, conversionPlan);
+        this.asyncExecutor = asyncExecutor != null ? asyncExecutor : ForkJoinPool.commonPool();
     }
 
     public Object execute(DataFetchingEnvironment env) throws Exception {
@@ -54,11 +97,80 @@ public class OperationExecutor {
             throw new GraphQLException("Resolver for operation " + operation.getName() + " accepting arguments: "
                     + arguments.keySet() + " not implemented");
         }
-        ResolutionEnvironment resolutionEnvironment = new ResolutionEnvironment(resolver, env, this.valueMapper, this.globalEnvironment, this.converterRegistry, this.derivedTypes);
-        Object result = execute(resolver, resolutionEnvironment, arguments);
+        if (FlightRecorderEvents.SUPPORTED) {
+            ResolverInvocationEvent event = ResolverInvocationEvent.start(operation.getName(), env);
+            if (event != null) {
+                return event.record(() -> execute(resolver, env, arguments));
+            }
+        }
+        return execute(resolver, env, arguments);
+    }
+
+    private Object execute(Resolver resolver, DataFetchingEnvironment env, Map<String, Object> arguments) throws Exception {
+        Bulkhead bulkhead = bulkheads.get(resolver);
+        if (bulkhead != null) {
+            return bulkhead.execute(() -> dispatch(resolver, env, arguments), asyncExecutor);
+        }
+        return dispatch(resolver, env, arguments);
+    }
+
+    private Object dispatch(Resolver resolver, DataFetchingEnvironment env, Map<String, Object> arguments) throws Exception {
+        if (plainResolvers.contains(resolver)) {
+            return invoke(resolver, env.getSource(), NO_ARGUMENTS);
+        }
+        ResolutionEnvironment resolutionEnvironment = new ResolutionEnvironment(resolver, env, this.valueMapper, this.globalEnvironment, this.conversionPlan, this.derivedTypes);
+        if (asyncResolvers.contains(resolver)) {
+            return executeAsync(resolver, resolutionEnvironment, arguments);
+        }
+        Object result = resolve(resolver, resolutionEnvironment, arguments);
         return resolutionEnvironment.adaptOutput(result, resolver.getTypedElement(), resolver.getReturnType());
     }
 
+    /**
+     * Resolves and converts the result on the configured async executor, freeing the calling thread to resolve other fields
+     */
+    private CompletableFuture<Object> executeAsync(Resolver resolver, ResolutionEnvironment resolutionEnvironment, Map<String, Object> rawArguments) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        asyncExecutor.execute(() -> {
+            try {
+                Object output = resolve(resolver, resolutionEnvironment, rawArguments);
+                result.complete(resolutionEnvironment.adaptOutput(output, resolver.getTypedElement(), resolver.getReturnType()));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reuses the result of an earlier invocation with the same source and arguments within the same request, if any.
+     * Forms the innermost link of the invocation chain, so that the interceptors (e.g. authorization checks) still run
+     * on each invocation. Failed invocations are not memoized.
+     */
+    private static Object invokeMemoized(InvocationContext context, int[] injectedArguments) throws Exception {
+        ResolutionEnvironment resolutionEnvironment = context.getResolutionEnvironment();
+        Map<MemoizationKey, Object> memo = ContextUtils.getRequestScopedValues(resolutionEnvironment.dataFetchingEnvironment.getContext());
+        if (memo == null) {
+            return invoke(context.getResolver(), resolutionEnvironment.context, context.getArguments());
+        }
+        Object[] injected = new Object[injectedArguments.length];
+        for (int i = 0; i < injectedArguments.length; i++) {
+            injected[i] = context.getArguments()[injectedArguments[i]];
+        }
+        MemoizationKey key = new MemoizationKey(context.getResolver(), resolutionEnvironment.context,
+                resolutionEnvironment.dataFetchingEnvironment.getArguments(), injected);
+        Object memoized = memo.get(key);
+        if (memoized != null) {
+            return memoized == NULL_RESULT ? null : memoized;
+        }
+        Object result = invoke(context.getResolver(), resolutionEnvironment.context, context.getArguments());
+        if (result instanceof DataFetcherResult && ((DataFetcherResult<?>) result).hasErrors()) {
+            return result;
+        }
+        memo.putIfAbsent(key, result == null ? NULL_RESULT : result);
+        return result;
+    }
+
     /**
      * Prepares input arguments by calling respective {@link ArgumentInjector}s
      * and invokes the underlying resolver method/field
@@ -71,36 +183,165 @@ public class OperationExecutor {
      *
      * @throws Exception If the invocation of the underlying method/field or any of the interceptors throws
      */
-    private Object execute(Resolver resolver, ResolutionEnvironment resolutionEnvironment, Map<String, Object> rawArguments)
+    private Object resolve(Resolver resolver, ResolutionEnvironment resolutionEnvironment, Map<String, Object> rawArguments)
             throws Exception {
 
         int queryArgumentsCount = resolver.getArguments().size();
+        ArgumentInjector[] injectors = argumentInjectors.get(resolver);
 
         Object[] args = new Object[queryArgumentsCount];
         for (int i = 0; i < queryArgumentsCount; i++) {
             OperationArgument argDescriptor =  resolver.getArguments().get(i);
             Object rawArgValue = rawArguments.get(argDescriptor.getName());
 
-            args[i] = resolutionEnvironment.getInputValue(rawArgValue, argDescriptor);
+            args[i] = resolutionEnvironment.getInputValue(rawArgValue, argDescriptor, injectors[i]);
         }
         if (!resolutionEnvironment.errors.isEmpty()) {
             return DataFetcherResult.newResult().errors(resolutionEnvironment.errors).build();
         }
-        InvocationContext invocationContext = new InvocationContext(operation, resolver, resolutionEnvironment, args);
-        Queue<ResolverInterceptor> interceptors = new LinkedList<>(this.interceptors.get(resolver));
-        interceptors.add((ctx, cont) -> {
-            try {
-                return resolver.resolve(ctx.getResolutionEnvironment().context, ctx.getArguments());
-            } catch (ReflectiveOperationException e) {
-                sneakyThrow(unwrap(e));
+        ResolverInterceptor.Continuation invocationChain = invocationChains.get(resolver);
+        if (invocationChain == null) {
+            return invoke(resolver, resolutionEnvironment.context, args);
+        }
+        return invocationChain.proceed(new InvocationContext(operation, resolver, resolutionEnvironment, args));
+    }
+
+    /**
+     * Invokes the underlying method/field, unwrapping any exception thrown by the invocation itself
+     */
+    static Object invoke(Resolver resolver, Object source, Object[] args) throws Exception {
+        try {
+            return resolver.resolve(source, args);
+        } catch (ReflectiveOperationException e) {
+            sneakyThrow(unwrap(e));
+        }
+        return null; //never happens, needed because of sneakyThrow
+    }
+
+    /**
+     * Checks whether the resolver is marked with {@link GraphQLAsync}. Resolvers that are already asynchronous, i.e. those of
+     * subscriptions and those returning a {@link CompletionStage} or a {@link Publisher}, are never additionally offloaded,
+     * even if their declaring class is marked.
+     */
+    static boolean isAsync(Operation operation, Resolver resolver) {
+        return operation.getOperationType() != OperationDefinition.Operation.SUBSCRIPTION
+                && !CompletionStage.class.isAssignableFrom(resolver.getRawReturnType())
+                && !Publisher.class.isAssignableFrom(resolver.getRawReturnType())
+                && isAnnotated(resolver, GraphQLAsync.class);
+    }
+
+    /**
+     * Checks whether the resolver is marked with {@link GraphQLMemoized}, and all of its injected arguments
+     * (as they are a part of the memoization key) are of types compared by value.
+     * Resolvers injecting e.g. the {@link ResolutionEnvironment} can never reuse a result, so they aren't memoized at all.
+     */
+    static boolean isMemoized(Resolver resolver) {
+        return isAnnotated(resolver, GraphQLMemoized.class) && Arrays.stream(injectedArguments(resolver))
+                .allMatch(i -> ClassUtils.hasValueEquality(resolver.getArguments().get(i).getJavaType().getType()));
+    }
+
+    /**
+     * @return The positions of the arguments whose values are neither mapped from the GraphQL arguments nor the source
+     */
+    private static int[] injectedArguments(Resolver resolver) {
+        List<OperationArgument> arguments = resolver.getArguments();
+        return IntStream.range(0, arguments.size())
+                .filter(i -> !arguments.get(i).isMappable() && !arguments.get(i).isContext())
+                .toArray();
+    }
+
+    /**
+     * Checks whether the resolver's underlying method/field, or its declaring class, is marked with the given annotation
+     */
+    private static boolean isAnnotated(Resolver resolver, Class<? extends Annotation> annotation) {
+        return resolver.getExecutable().getDelegate().isAnnotationPresent(annotation)
+                || resolver.getExecutable().getDelegate().getDeclaringClass().isAnnotationPresent(annotation);
+    }
+
+    /**
+     * Selects the injector for each argument of each resolver upfront, as the choice only depends on
+     * the argument's type and parameter, and not on the provided value
+     *
+     * @param resolvers All the resolvers of the operation
+     * @param injectorRegistry The registry of all known argument injectors
+     *
+     * @return The injectors for each resolver, in the order of the resolver's arguments
+     */
+    private static Map<Resolver, ArgumentInjector[]> resolveArgumentInjectors(Collection<Resolver> resolvers, ArgumentInjectorRegistry injectorRegistry) {
+        Map<Resolver, ArgumentInjector[]> injectors = new HashMap<>();
+        for (Resolver resolver : resolvers) {
+            injectors.put(resolver, resolver.getArguments().stream()
+                    .map(arg -> injectorRegistry.getInjector(arg.getJavaType(), arg.getParameter()))
+                    .toArray(ArgumentInjector[]::new));
+        }
+        return injectors;
+    }
+
+    /**
+     * Composes the interceptors applicable to each resolver, in their registration order, into a single immutable
+     * continuation terminating in the actual resolver invocation, or its memoized result. Resolvers with no applicable
+     * interceptors and no memoization get no chain, and are invoked directly.
+     *
+     * @param resolvers All the resolvers of the operation
+     * @param interceptorFactory The factory providing the interceptors applicable to each resolver
+     * @param memoizedResolvers The resolvers whose results are memoized within a request
+     *
+     * @return The invocation chains keyed by the resolver they terminate in
+     */
+    private static Map<Resolver, ResolverInterceptor.Continuation> buildInvocationChains(Collection<Resolver> resolvers, ResolverInterceptorFactory interceptorFactory,
+                                                                                         Set<Resolver> memoizedResolvers) {
+        Map<Resolver, ResolverInterceptor.Continuation> chains = new HashMap<>();
+        for (Resolver resolver : resolvers) {
+            List<ResolverInterceptor> interceptors = interceptorFactory.getInterceptors(new ResolverInterceptorFactoryParams(resolver));
+            boolean memoized = memoizedResolvers.contains(resolver);
+            if (interceptors.isEmpty() && !memoized) {
+                continue;
             }
-            return null; //never happens, needed because of sneakyThrow
-        });
-        return execute(invocationContext, interceptors);
+            int[] injectedArguments = injectedArguments(resolver);
+            ResolverInterceptor.Continuation chain = memoized
+                    ? ctx -> invokeMemoized(ctx, injectedArguments)
+                    : ctx -> invoke(resolver, ctx.getResolutionEnvironment().context, ctx.getArguments());
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                ResolverInterceptor interceptor = interceptors.get(i);
+                ResolverInterceptor.Continuation next = chain;
+                chain = ctx -> interceptor.aroundInvoke(ctx, next);
+            }
+            chains.put(resolver, chain);
+        }
+        return chains;
     }
 
-    private Object execute(InvocationContext context, Queue<ResolverInterceptor> interceptors) throws Exception {
-        return interceptors.remove().aroundInvoke(context, (ctx) -> execute(ctx, interceptors));
+    private static Map<Resolver, Bulkhead> findBulkheads(Collection<Resolver> resolvers, BulkheadRegistry registry) {
+        Map<Resolver, Bulkhead> bulkheads = new HashMap<>();
+        for (Resolver resolver : resolvers) {
+            Bulkhead bulkhead = registry.getBulkhead(resolver);
+            if (bulkhead != null) {
+                bulkheads.put(resolver, bulkhead);
+            }
+        }
+        return bulkheads;
+    }
+
+    /**
+     * Finds the (synchronous, non-memoized) resolvers that accept no arguments, have no applicable interceptors and return values needing
+     * no conversion. These never make use of a {@link ResolutionEnvironment}, so none gets constructed for them.
+     *
+     * @param resolvers All the resolvers of the operation
+     * @param asyncResolvers The resolvers invoked on the async executor
+     * @param invocationChains The invocation chains of the resolvers with applicable interceptors or memoization
+     * @param conversionPlan The output converters pre-selected for each resolver's return type
+     *
+     * @return The resolvers that can be invoked without a {@link ResolutionEnvironment}
+     */
+    private static Set<Resolver> findPlainResolvers(Collection<Resolver> resolvers, Set<Resolver> asyncResolvers,
+                                                    Map<Resolver, ResolverInterceptor.Continuation> invocationChains,
+                                                    OutputConversionPlan conversionPlan) {
+        return resolvers.stream()
+                .filter(resolver -> resolver.getArguments().isEmpty())
+                .filter(resolver -> !asyncResolvers.contains(resolver))
+                .filter(resolver -> !invocationChains.containsKey(resolver))
+                .filter(resolver -> conversionPlan.getOutputConverter(resolver.getTypedElement(), resolver.getReturnType()) == null)
+                .collect(Collectors.toSet());
     }
 
     private ConverterRegistry optimizeConverters(Collection<Resolver> resolvers, ConverterRegistry converters) {
@@ -114,7 +355,13 @@ public class OperationExecutor {
                         .collect(Collectors.toList()));
     }
 
-    private Throwable unwrap(ReflectiveOperationException e) {
+    private OutputConversionPlan compileConversionPlan(Collection<Resolver> resolvers, ConverterRegistry converterRegistry, DerivedTypeRegistry derivedTypes) {
+        return new OutputConversionPlan(
+                resolvers.stream().map(Resolver::getTypedElement).collect(Collectors.toList()),
+                converterRegistry, derivedTypes);
+    }
+
+    private static Throwable unwrap(ReflectiveOperationException e) {
         Throwable cause = e.getCause();
         if (cause != null && cause != e) {
             return cause;
@@ -0,0 +1,51 @@
+package io.leangen.graphql.execution;
+
+import io.leangen.graphql.generator.mapping.ConverterRegistry;
+import io.leangen.graphql.generator.mapping.OutputConverter;
+import io.leangen.graphql.metadata.TypedElement;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output converters pre-selected at build time for each resolver's return type and all the types derived from it,
+ * so that converting a value (e.g. each element of a large list) needs no scan of the {@link ConverterRegistry}.
+ * Types not known upfront (e.g. those constructed by a custom converter on the fly) fall back to a registry scan.
+ */
+@SuppressWarnings("rawtypes")
+class OutputConversionPlan {
+
+    private final Map<AnnotatedElement, Map<AnnotatedType, OutputConverter>> plans;
+    private final ConverterRegistry converters;
+
+    OutputConversionPlan(List<TypedElement> elements, ConverterRegistry converters, DerivedTypeRegistry derivedTypes) {
+        this.plans = new IdentityHashMap<>();
+        this.converters = converters;
+        elements.forEach(element -> compile(element, element.getJavaType(),
+                plans.computeIfAbsent(element, k -> new IdentityHashMap<>()), derivedTypes));
+    }
+
+    private void compile(AnnotatedElement element, AnnotatedType type, Map<AnnotatedType, OutputConverter> plan, DerivedTypeRegistry derivedTypes) {
+        if (plan.containsKey(type)) {
+            return;
+        }
+        //null is a valid entry, meaning no conversion is needed
+        plan.put(type, converters.getOutputConverter(element, type));
+        derivedTypes.getDerived(type).forEach(derived -> compile(element, derived, plan, derivedTypes));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T, S> OutputConverter<T, S> getOutputConverter(AnnotatedElement element, AnnotatedType type) {
+        Map<AnnotatedType, OutputConverter> plan = plans.get(element);
+        if (plan != null) {
+            OutputConverter converter = plan.get(type);
+            if (converter != null || plan.containsKey(type)) {
+                return converter;
+            }
+        }
+        return converters.getOutputConverter(element, type);
+    }
+}
@@ -7,10 +7,12 @@ import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLSchema;
-import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
 import io.leangen.graphql.generator.mapping.OutputConverter;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.OutputConversionEvent;
 import io.leangen.graphql.metadata.OperationArgument;
 import io.leangen.graphql.metadata.Resolver;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
@@ -20,6 +22,7 @@ import io.leangen.graphql.util.Urls;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,11 +45,17 @@ public class ResolutionEnvironment {
     public final Map<String, Object> arguments;
     public final List<GraphQLError> errors;
 
-    private final ConverterRegistry converters;
+    private final OutputConversionPlan conversionPlan;
     private final DerivedTypeRegistry derivedTypes;
 
     public ResolutionEnvironment(Resolver resolver, DataFetchingEnvironment env, ValueMapper valueMapper, GlobalEnvironment globalEnvironment,
                                  ConverterRegistry converters, DerivedTypeRegistry derivedTypes) {
+        //No plan, so every lookup falls back to the given registry, as it always has
+        this(resolver, env, valueMapper, globalEnvironment, new OutputConversionPlan(Collections.emptyList(), converters, derivedTypes), derivedTypes);
+    }
+
+    ResolutionEnvironment(Resolver resolver, DataFetchingEnvironment env, ValueMapper valueMapper, GlobalEnvironment globalEnvironment,
+                          OutputConversionPlan conversionPlan, DerivedTypeRegistry derivedTypes) {
 
         this.context = env.getSource();
         this.rootContext = env.getContext();
@@ -59,14 +68,23 @@ public class ResolutionEnvironment {
         this.dataFetchingEnvironment = env;
         this.arguments = new HashMap<>();
         this.errors = new ArrayList<>();
-        this.converters = converters;
+        this.conversionPlan = conversionPlan;
         this.derivedTypes = derivedTypes;
     }
 
+    @SuppressWarnings("unchecked")
     public <T, S> S convertOutput(T output, AnnotatedElement element, AnnotatedType type) {
         if (output == null) {
             return null;
         }
+        // Results wrapped asynchronously (e.g. a timeout error in place of a future's value) are handled transparently
+        if (DataFetcherResult.class.equals(output.getClass())) {
+            DataFetcherResult<?> result = (DataFetcherResult<?>) output;
+            if (result.getData() == null) {
+                return (S) result;
+            }
+            return (S) result.transform(res -> res.data(convert(result.getData(), element, type)));
+        }
 
         return convert(output, element, type);
     }
@@ -92,8 +110,21 @@ public class ResolutionEnvironment {
 
     @SuppressWarnings("unchecked")
     private <T, S> S convert(T output, AnnotatedElement element, AnnotatedType type) {
-        OutputConverter<T, S> outputConverter = converters.getOutputConverter(element, type);
-        return outputConverter == null ? (S) output : outputConverter.convertOutput(output, type, this);
+        OutputConverter<T, S> outputConverter = conversionPlan.getOutputConverter(element, type);
+        if (outputConverter == null) {
+            return (S) output;
+        }
+        if (FlightRecorderEvents.SUPPORTED) {
+            OutputConversionEvent event = OutputConversionEvent.start(type, outputConverter);
+            if (event != null) {
+                try {
+                    return outputConverter.convertOutput(output, type, this);
+                } finally {
+                    event.complete();
+                }
+            }
+        }
+        return outputConverter.convertOutput(output, type, this);
     }
 
     public AnnotatedType getDerived(AnnotatedType type, int index) {
@@ -112,9 +143,12 @@ public class ResolutionEnvironment {
     }
 
     public Object getInputValue(Object input, OperationArgument argument) {
+        return getInputValue(input, argument, this.globalEnvironment.injectors.getInjector(argument.getJavaType(), argument.getParameter()));
+    }
+
+    Object getInputValue(Object input, OperationArgument argument, ArgumentInjector injector) {
         boolean argValuePresent = dataFetchingEnvironment.containsArgument(argument.getName());
-        ArgumentInjectorParams params = new ArgumentInjectorParams(input, argValuePresent, argument, this);
-        Object value = this.globalEnvironment.injectors.getInjector(argument.getJavaType(), argument.getParameter()).getArgumentValue(params);
+        Object value = injector.getArgumentValue(input, argValuePresent, argument, this);
         if (argValuePresent) {
             arguments.put(argument.getName(), value);
         }
@@ -122,7 +156,7 @@ public class ResolutionEnvironment {
     }
 
     public Directives getDirectives(ExecutionStepInfo step) {
-        return new Directives(dataFetchingEnvironment, step);
+        return Directives.get(dataFetchingEnvironment, step);
     }
 
     public Directives getDirectives() {
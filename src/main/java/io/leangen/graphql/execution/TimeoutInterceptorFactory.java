@@ -0,0 +1,261 @@
+package io.leangen.graphql.execution;
+
+import graphql.ExceptionWhileDataFetching;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.ExecutionStepInfo;
+import graphql.schema.DataFetchingEnvironment;
+import io.leangen.graphql.annotations.GraphQLTimeout;
+import io.leangen.graphql.metadata.Resolver;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.lang.reflect.AnnotatedElement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Enforces per-resolver deadlines, set via {@link GraphQLTimeout} or programmatically.
+ * <p>Once a deadline passes, the field resolves to a {@link DataFetcherResult} carrying a {@link TimeoutException} error,
+ * and the resolver's asynchronous result is cancelled: a {@link CompletionStage} via {@link CompletableFuture#cancel(boolean)},
+ * and a {@link Publisher} by cancelling its {@link Subscription}. Cancellation also propagates the other way,
+ * so cancelling the future handed to graphql-java cancels the resolver's own future.</p>
+ * <p>Synchronous resolvers can not be interrupted, so their results are merely discarded (in favor of the timeout error)
+ * if they arrive too late. Blocking resolvers are thus best combined with {@link io.leangen.graphql.annotations.GraphQLAsync}
+ * or made to return a future.</p>
+ */
+public class TimeoutInterceptorFactory implements ResolverInterceptorFactory {
+
+    private static final ScheduledExecutorService DEFAULT_SCHEDULER = createScheduler();
+
+    private final Function<Resolver, Duration> timeouts;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Only enforces the deadlines set via {@link GraphQLTimeout}
+     */
+    public TimeoutInterceptorFactory() {
+        this(resolver -> null);
+    }
+
+    /**
+     * @param defaultTimeout The deadline applied to all resolvers not annotated with {@link GraphQLTimeout}
+     */
+    public TimeoutInterceptorFactory(Duration defaultTimeout) {
+        this(resolver -> defaultTimeout);
+    }
+
+    /**
+     * @param timeouts Provides the deadline for each resolver not annotated with {@link GraphQLTimeout}, or {@code null} for none
+     */
+    public TimeoutInterceptorFactory(Function<Resolver, Duration> timeouts) {
+        this(timeouts, DEFAULT_SCHEDULER);
+    }
+
+    /**
+     * @param timeouts Provides the deadline for each resolver not annotated with {@link GraphQLTimeout}, or {@code null} for none
+     * @param scheduler The scheduler used to trigger the timeouts
+     */
+    public TimeoutInterceptorFactory(Function<Resolver, Duration> timeouts, ScheduledExecutorService scheduler) {
+        this.timeouts = timeouts;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public List<ResolverInterceptor> getInterceptors(ResolverInterceptorFactoryParams params) {
+        Duration timeout = getTimeout(params.getResolver());
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new TimeoutInterceptor(timeout.toNanos(), scheduler));
+    }
+
+    private Duration getTimeout(Resolver resolver) {
+        AnnotatedElement delegate = resolver.getExecutable().getDelegate();
+        GraphQLTimeout timeout = delegate.isAnnotationPresent(GraphQLTimeout.class)
+                ? delegate.getAnnotation(GraphQLTimeout.class)
+                : resolver.getExecutable().getDelegate().getDeclaringClass().getAnnotation(GraphQLTimeout.class);
+        if (timeout != null) {
+            return Duration.ofNanos(timeout.unit().toNanos(timeout.value()));
+        }
+        return timeouts.apply(resolver);
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "graphql-spqr-resolver-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static class TimeoutInterceptor implements ResolverInterceptor {
+
+        private final long timeoutNanos;
+        private final ScheduledExecutorService scheduler;
+
+        TimeoutInterceptor(long timeoutNanos, ScheduledExecutorService scheduler) {
+            this.timeoutNanos = timeoutNanos;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object aroundInvoke(InvocationContext context, Continuation continuation) throws Exception {
+            long deadline = System.nanoTime() + timeoutNanos;
+            Object result = continuation.proceed(context);
+            long remaining = deadline - System.nanoTime();
+            if (result instanceof CompletionStage) {
+                return guard(((CompletionStage<?>) result).toCompletableFuture(), remaining, context);
+            }
+            if (result instanceof Publisher) {
+                return new DeadlinePublisher<>((Publisher<Object>) result, deadline, context);
+            }
+            return remaining > 0 ? result : timeoutResult(context);
+        }
+
+        private CompletableFuture<Object> guard(CompletableFuture<?> original, long remaining, InvocationContext context) {
+            CompletableFuture<Object> guarded = new CompletableFuture<>();
+            AtomicBoolean timedOut = new AtomicBoolean();
+            ScheduledFuture<?> timer = scheduler.schedule(() -> {
+                //The original is cancelled before the timeout is reported, so the cancellation is visible once the field completes
+                if (!guarded.isDone() && timedOut.compareAndSet(false, true)) {
+                    original.cancel(true);
+                    guarded.complete(timeoutResult(context));
+                }
+            }, Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            original.whenComplete((res, error) -> {
+                timer.cancel(false);
+                if (timedOut.get()) {
+                    return;
+                }
+                if (error != null) {
+                    guarded.completeExceptionally(error);
+                } else {
+                    guarded.complete(res);
+                }
+            });
+            guarded.whenComplete((res, error) -> {
+                if (guarded.isCancelled()) {
+                    original.cancel(true);
+                }
+            });
+            return guarded;
+        }
+
+        private TimeoutException timeoutException(InvocationContext context) {
+            return new TimeoutException("Operation " + context.getOperation().getName() + " did not complete within "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+        }
+
+        private DataFetcherResult<?> timeoutResult(InvocationContext context) {
+            DataFetchingEnvironment env = context.getResolutionEnvironment().dataFetchingEnvironment;
+            ExecutionStepInfo step = env.getExecutionStepInfo();
+            return DataFetcherResult.newResult()
+                    .error(new ExceptionWhileDataFetching(step.getPath(), timeoutException(context), env.getField().getSourceLocation()))
+                    .build();
+        }
+
+        /**
+         * Signals a timeout error downstream (and cancels the upstream subscription) if the deadline passes before completion
+         */
+        private class DeadlinePublisher<T> implements Publisher<T> {
+
+            private final Publisher<T> upstream;
+            private final long deadline;
+            private final InvocationContext context;
+
+            DeadlinePublisher(Publisher<T> upstream, long deadline, InvocationContext context) {
+                this.upstream = upstream;
+                this.deadline = deadline;
+                this.context = context;
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super T> downstream) {
+                upstream.subscribe(new Subscriber<T>() {
+
+                    private Subscription subscription;
+                    private ScheduledFuture<?> timer;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        synchronized (this) {
+                            this.subscription = subscription;
+                        }
+                        downstream.onSubscribe(new Subscription() {
+                            @Override
+                            public void request(long n) {
+                                subscription.request(n);
+                            }
+
+                            @Override
+                            public void cancel() {
+                                terminate();
+                                subscription.cancel();
+                            }
+                        });
+                        //Scheduled only now, as no error may be signalled before onSubscribe
+                        synchronized (this) {
+                            if (!done) {
+                                timer = scheduler.schedule(this::onTimeout, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                            }
+                        }
+                    }
+
+                    @Override
+                    public synchronized void onNext(T item) {
+                        if (!done) {
+                            downstream.onNext(item);
+                        }
+                    }
+
+                    @Override
+                    public synchronized void onError(Throwable error) {
+                        if (terminate()) {
+                            downstream.onError(error);
+                        }
+                    }
+
+                    @Override
+                    public synchronized void onComplete() {
+                        if (terminate()) {
+                            downstream.onComplete();
+                        }
+                    }
+
+                    private synchronized void onTimeout() {
+                        if (terminate()) {
+                            subscription.cancel();
+                            downstream.onError(timeoutException(context));
+                        }
+                    }
+
+                    private synchronized boolean terminate() {
+                        if (done) {
+                            return false;
+                        }
+                        done = true;
+                        if (timer != null) {
+                            timer.cancel(false);
+                        }
+                        return true;
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.leangen.graphql.execution.caching;
+
+/**
+ * An immutable snapshot of the statistics of a {@link ResolverCache}
+ */
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long weight;
+    private final long offHeapHitCount;
+    private final long offHeapSize;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long weight) {
+        this(hitCount, missCount, evictionCount, expirationCount, weight, 0, 0);
+    }
+
+    private CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long weight,
+                       long offHeapHitCount, long offHeapSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.weight = weight;
+        this.offHeapHitCount = offHeapHitCount;
+        this.offHeapSize = offHeapSize;
+    }
+
+    CacheStats withOffHeap(long offHeapHitCount, long offHeapSize) {
+        return new CacheStats(hitCount, missCount, evictionCount, expirationCount, weight, offHeapHitCount, offHeapSize);
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return The number of results removed (or rejected) to keep the cache within its maximum weight
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return The number of results removed due to their TTL running out
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * @return The current total weight of the cached results
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return The number of misses of the on-heap cache that were served from the off-heap tier
+     */
+    public long getOffHeapHitCount() {
+        return offHeapHitCount;
+    }
+
+    /**
+     * @return The number of bytes currently taken by the serialized results in the off-heap tier
+     */
+    public long getOffHeapSize() {
+        return offHeapSize;
+    }
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, evictions=%d, expirations=%d, weight=%d, offHeapHits=%d, offHeapSize=%d}",
+                hitCount, missCount, evictionCount, expirationCount, weight, offHeapHitCount, offHeapSize);
+    }
+}
@@ -0,0 +1,185 @@
+package io.leangen.graphql.execution.caching;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps serialized values outside of the Java heap, in a ring of direct {@link ByteBuffer} slabs.
+ * Values are appended to the current slab, and once it fills up, writing moves on to the next one,
+ * evicting all the values previously stored in it. The eviction is thus FIFO with the granularity of a slab
+ * (1/16 of the capacity), which keeps the bookkeeping trivial and the memory free of fragmentation.
+ * Only the keys and the locations of the values are kept on the heap.
+ * <p>Slabs are allocated lazily, on first use. Reads are optimistic and only fall back to locking if they
+ * raced with a write.</p>
+ */
+class OffHeapStore {
+
+    private static final int SLAB_COUNT = 16;
+    private static final int MIN_SLAB_SIZE = 64 * 1024;
+
+    private final ByteBuffer[] slabs = new ByteBuffer[SLAB_COUNT];
+    private final List<List<Object>> slabKeys = new ArrayList<>(SLAB_COUNT);
+    private final ConcurrentHashMap<Object, Location> index = new ConcurrentHashMap<>();
+    private final StampedLock lock = new StampedLock();
+    private final int slabSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private int currentSlab;
+    private int position;
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param capacity The total number of bytes to store at most
+     * @param ttlNanos The time after which a stored value expires
+     * @param ticker The source of time (in nanoseconds) used to expire the values
+     */
+    OffHeapStore(long capacity, long ttlNanos, LongSupplier ticker) {
+        this.slabSize = (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_SLAB_SIZE, capacity / SLAB_COUNT));
+        this.ttlNanos = ttlNanos;
+        this.ticker = ticker;
+        for (int i = 0; i < SLAB_COUNT; i++) {
+            slabKeys.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @param key The key to look up
+     * @return The serialized value, or {@code null} if no unexpired value is stored under the given key
+     */
+    String get(Object key) {
+        long stamp = lock.tryOptimisticRead();
+        byte[] bytes = read(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                bytes = read(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (bytes == null) {
+            return null;
+        }
+        hits.increment();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte[] read(Object key) {
+        Location location = index.get(key);
+        if (location == null || location.expiresAt - ticker.getAsLong() <= 0) {
+            return null;
+        }
+        ByteBuffer slab = slabs[location.slab];
+        if (slab == null || location.offset + location.length > slab.capacity()) {
+            return null; //Only possible in a read racing with a write, which gets retried
+        }
+        byte[] bytes = new byte[location.length];
+        ByteBuffer view = slab.duplicate();
+        view.position(location.offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Stores the given serialized value, unless it is larger than a single slab
+     *
+     * @param key The key to store the value under
+     * @param value The serialized value
+     */
+    void put(Object key, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > slabSize) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (position + bytes.length > slabSize || slabs[currentSlab] == null) {
+                if (slabs[currentSlab] != null) {
+                    currentSlab = (currentSlab + 1) % SLAB_COUNT;
+                }
+                recycle(currentSlab);
+            }
+            ByteBuffer view = slabs[currentSlab].duplicate();
+            view.position(position);
+            view.put(bytes);
+            Location previous = index.put(key, new Location(currentSlab, position, bytes.length, ticker.getAsLong() + ttlNanos));
+            if (previous != null) {
+                size -= previous.length;
+            }
+            slabKeys.get(currentSlab).add(key);
+            position += bytes.length;
+            size += bytes.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            index.clear();
+            slabKeys.forEach(List::clear);
+            size = 0;
+            position = slabSize; //Forces moving on to a fresh slab
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of bytes taken by the currently stored values
+     */
+    long getSize() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Evicts all the values stored in the given slab (allocating it first, if needed) and rewinds it
+     */
+    private void recycle(int slab) {
+        if (slabs[slab] == null) {
+            slabs[slab] = ByteBuffer.allocateDirect(slabSize);
+        }
+        for (Object key : slabKeys.get(slab)) {
+            Location location = index.get(key);
+            if (location != null && location.slab == slab) {
+                index.remove(key);
+                size -= location.length;
+            }
+        }
+        slabKeys.get(slab).clear();
+        position = 0;
+    }
+
+    private static class Location {
+
+        private final int slab;
+        private final int offset;
+        private final int length;
+        private final long expiresAt;
+
+        Location(int slab, int offset, int length, long expiresAt) {
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
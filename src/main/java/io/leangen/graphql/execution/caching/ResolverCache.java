@@ -0,0 +1,209 @@
+package io.leangen.graphql.execution.caching;
+
+import io.leangen.graphql.metadata.CachePolicy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded cache with per-entry expiration, using a Window TinyLFU eviction policy:
+ * new entries are first admitted into a small LRU window (1% of the maximum weight), and are only promoted into
+ * the main LRU segment once they're pushed out of the window, and if they're accessed more frequently than
+ * the entry they would replace. This protects frequently used entries from being flushed out by bursts of one-off ones.
+ * <p>Reads are lock-free. The bookkeeping of reads, including the removal of the expired entries they run into,
+ * is skipped whenever it would have to wait for a concurrent write, trading a bit of eviction precision for throughput.
+ * Expired entries left in place are never returned, and are removed by a later read, or replaced by a write.</p>
+ */
+public class ResolverCache {
+
+    private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Object, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Object, Node> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final long maxWindowWeight;
+    private final LongSupplier ticker;
+    private long windowWeight;
+    private long mainWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public ResolverCache(CachePolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    /**
+     * @param policy The TTL and maximum weight of the cache
+     * @param ticker The source of time (in nanoseconds) used to expire the entries
+     */
+    public ResolverCache(CachePolicy policy, LongSupplier ticker) {
+        this.ttlNanos = policy.getTtlNanos();
+        this.maxWeight = policy.getMaxWeight();
+        this.maxWindowWeight = Math.max(1, maxWeight / 100);
+        this.sketch = new FrequencySketch(maxWeight);
+        this.ticker = ticker;
+    }
+
+    /**
+     * @param key The key to look up
+     * @return The cached value, or {@code null} if no unexpired value is cached under the given key
+     */
+    public Object get(Object key) {
+        Node node = data.get(key);
+        boolean expired = node != null && node.expiresAt - ticker.getAsLong() <= 0;
+        if (node == null || expired) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(key);
+                if (expired) {
+                    expire(node);
+                } else if (node != null) {
+                    //Moves the entry to the most recently used position in its segment
+                    (node.inWindow ? window : main).get(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node == null || expired ? null : node.value;
+    }
+
+    /**
+     * Caches the given value, unless it weighs more than the whole cache may
+     *
+     * @param key The key to cache the value under
+     * @param value The (non-null) value to cache
+     * @param weight The weight of the value
+     */
+    public void put(Object key, Object value, long weight) {
+        if (weight > maxWeight) {
+            return;
+        }
+        Node node = new Node(key, value, weight, ticker.getAsLong() + ttlNanos);
+        lock.lock();
+        try {
+            Node previous = data.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            window.put(key, node);
+            windowWeight += weight;
+            while (windowWeight > maxWindowWeight) {
+                Node candidate = removeEldest(window);
+                windowWeight -= candidate.weight;
+                admit(candidate);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            main.clear();
+            windowWeight = 0;
+            mainWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), windowWeight + mainWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the candidate pushed out of the window into the main segment, if it's accessed more frequently than
+     * the least recently used entries it would replace. Otherwise, the candidate itself is evicted.
+     */
+    private void admit(Node candidate) {
+        long maxMainWeight = maxWeight - maxWindowWeight;
+        long now = ticker.getAsLong();
+        while (mainWeight + candidate.weight > maxMainWeight) {
+            Node victim = main.isEmpty() ? null : main.values().iterator().next();
+            if (victim != null && victim.expiresAt - now <= 0) {
+                expire(victim);
+                continue;
+            }
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evict(candidate);
+                return;
+            }
+            unlink(victim);
+            evict(victim);
+        }
+        candidate.inWindow = false;
+        main.put(candidate.key, candidate);
+        mainWeight += candidate.weight;
+    }
+
+    /**
+     * Removes the expired entry. Must be called while holding the lock.
+     */
+    private void expire(Node node) {
+        if (data.remove(node.key, node)) {
+            unlink(node);
+            expirations.increment();
+        }
+    }
+
+    private void evict(Node node) {
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    private void unlink(Node node) {
+        if (node.inWindow) {
+            if (window.remove(node.key, node)) {
+                windowWeight -= node.weight;
+            }
+        } else if (main.remove(node.key, node)) {
+            mainWeight -= node.weight;
+        }
+    }
+
+    private static Node removeEldest(Map<Object, Node> segment) {
+        Iterator<Node> nodes = segment.values().iterator();
+        Node eldest = nodes.next();
+        nodes.remove();
+        return eldest;
+    }
+
+    private static class Node {
+
+        private final Object key;
+        private final Object value;
+        private final long weight;
+        private final long expiresAt;
+        private boolean inWindow = true;
+
+        Node(Object key, Object value, long weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
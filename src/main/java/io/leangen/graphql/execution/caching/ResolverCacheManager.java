@@ -0,0 +1,234 @@
+package io.leangen.graphql.execution.caching;
+
+import graphql.execution.DataFetcherResult;
+import io.leangen.graphql.execution.InvocationContext;
+import io.leangen.graphql.execution.ResolverInterceptor;
+import io.leangen.graphql.execution.ResolverInterceptorFactory;
+import io.leangen.graphql.execution.ResolverInterceptorFactoryParams;
+import io.leangen.graphql.metadata.CachePolicy;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.exceptions.MappingException;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Caches the results of the resolvers marked with {@link io.leangen.graphql.annotations.GraphQLCacheable} across requests,
+ * using a separate {@link ResolverCache} for each such resolver.
+ * The results are keyed by the source object, the raw argument values and the values of all the injected arguments
+ * (e.g. those annotated with {@link io.leangen.graphql.annotations.GraphQLRootContext}), compared by equality,
+ * so that e.g. results computed for one user are never served to another. Resolvers injecting values of types not compared
+ * by value (e.g. {@link io.leangen.graphql.execution.ResolutionEnvironment} or {@link graphql.schema.DataFetchingEnvironment})
+ * could never hit the cache, and would only fill it with entries keeping request-scoped objects alive, so they aren't cached at all.
+ * The source object is identified
+ * by its {@link io.leangen.graphql.annotations.GraphQLId}, and the invocations on sources that expose none are not cached.
+ * The source object is ignored for the resolvers that neither accept it as a {@link io.leangen.graphql.annotations.GraphQLContext}
+ * argument nor are invoked on it.
+ * <p>Resolvers with an off-heap capacity configured get an additional tier of serialized results kept in direct buffers,
+ * consulted on each miss of the on-heap cache. Results found there are deserialized and promoted into the on-heap cache.
+ * As output types generally can't be rebuilt from their serialized form, the tier requires an explicitly
+ * provided {@link ResultSerializer}, and the schema generation fails if such a resolver is found without one.</p>
+ * <p>The caching interceptor is always applied after (inside of) all other interceptors,
+ * so that e.g. authorization checks still run on each invocation. Failed invocations are never cached,
+ * and neither are the results of batched resolvers.</p>
+ */
+public class ResolverCacheManager implements ResolverInterceptorFactory {
+
+    private static final Object NULL_RESULT = new Object();
+
+    private final Map<Resolver, ResolverCache> caches = new ConcurrentHashMap<>();
+    private final Map<Resolver, OffHeapStore> offHeapStores = new ConcurrentHashMap<>();
+    private final LongSupplier ticker;
+    private final ResultSerializer serializer;
+
+    public ResolverCacheManager() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param ticker The source of time (in nanoseconds) used to expire the cached results
+     */
+    public ResolverCacheManager(LongSupplier ticker) {
+        this(ticker, null);
+    }
+
+    /**
+     * @param ticker The source of time (in nanoseconds) used to expire the cached results
+     * @param serializer The serializer of the results kept off-heap, or {@code null} if no resolver has an off-heap tier
+     */
+    public ResolverCacheManager(LongSupplier ticker, ResultSerializer serializer) {
+        this.ticker = ticker;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public List<ResolverInterceptor> getInterceptors(ResolverInterceptorFactoryParams params) {
+        Resolver resolver = params.getResolver();
+        int[] injectedArguments = injectedArguments(resolver);
+        if (resolver.getCachePolicy() == null || resolver.isBatched() || Arrays.stream(injectedArguments)
+                .anyMatch(i -> !ClassUtils.hasValueEquality(resolver.getArguments().get(i).getJavaType().getType()))) {
+            return Collections.emptyList();
+        }
+        CachePolicy policy = resolver.getCachePolicy();
+        if (policy.getOffHeapCapacity() > 0 && serializer == null) {
+            throw new MappingException("Resolver " + resolver + " has an off-heap cache capacity, but no "
+                    + ResultSerializer.class.getSimpleName() + " is set to serialize its results");
+        }
+        ResolverCache cache = caches.computeIfAbsent(resolver, res -> new ResolverCache(policy, ticker));
+        OffHeapStore offHeapStore = policy.getOffHeapCapacity() > 0
+                ? offHeapStores.computeIfAbsent(resolver, res -> new OffHeapStore(policy.getOffHeapCapacity(), policy.getTtlNanos(), ticker))
+                : null;
+        return Collections.singletonList(new CachingInterceptor(cache, offHeapStore, serializer, injectedArguments));
+    }
+
+    /**
+     * @return The statistics of each cache, keyed by the resolver's underlying method/field
+     */
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        caches.forEach((resolver, cache) -> {
+            OffHeapStore offHeapStore = offHeapStores.get(resolver);
+            stats.put(resolver.toString(), offHeapStore == null ? cache.getStats()
+                    : cache.getStats().withOffHeap(offHeapStore.getHitCount(), offHeapStore.getSize()));
+        });
+        return stats;
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(ResolverCache::invalidateAll);
+        offHeapStores.values().forEach(OffHeapStore::clear);
+    }
+
+    /**
+     * @return The positions of the arguments whose values are neither mapped from the GraphQL arguments nor the source
+     */
+    private static int[] injectedArguments(Resolver resolver) {
+        List<OperationArgument> arguments = resolver.getArguments();
+        return IntStream.range(0, arguments.size())
+                .filter(i -> !arguments.get(i).isMappable() && !arguments.get(i).isContext())
+                .toArray();
+    }
+
+    private static class CachingInterceptor implements ResolverInterceptor {
+
+        private final ResolverCache cache;
+        private final OffHeapStore offHeapStore;
+        private final ResultSerializer serializer;
+        private final int[] injectedArguments;
+
+        CachingInterceptor(ResolverCache cache, OffHeapStore offHeapStore, ResultSerializer serializer, int[] injectedArguments) {
+            this.cache = cache;
+            this.offHeapStore = offHeapStore;
+            this.serializer = serializer;
+            this.injectedArguments = injectedArguments;
+        }
+
+        @Override
+        public Object aroundInvoke(InvocationContext context, Continuation continuation) throws Exception {
+            Object key = cacheKey(context);
+            if (key == null) {
+                return continuation.proceed(context);
+            }
+            Object cached = cache.get(key);
+            if (cached != null) {
+                return cached == NULL_RESULT ? null : cached;
+            }
+            if (offHeapStore != null) {
+                Object stored = readOffHeap(key, context);
+                if (stored != null) {
+                    cache.put(key, stored, weigh(stored));
+                    return stored;
+                }
+            }
+            Object result = continuation.proceed(context);
+            if (result instanceof CompletionStage) {
+                //Only successfully completed results get cached, as an already completed future of the same type
+                ((CompletionStage<?>) result).thenAccept(res -> cache.put(key, CompletableFuture.completedFuture(res), weigh(res)));
+            } else if (!(result instanceof DataFetcherResult && ((DataFetcherResult<?>) result).hasErrors())) {
+                cache.put(key, result == null ? NULL_RESULT : result, weigh(result));
+                if (offHeapStore != null && result != null && !(result instanceof DataFetcherResult)) {
+                    writeOffHeap(key, result, context);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Deserializes the stored result, if any. A result that can not be deserialized is treated as a miss.
+         */
+        private Object readOffHeap(Object key, InvocationContext context) {
+            String serialized = offHeapStore.get(key);
+            if (serialized == null) {
+                return null;
+            }
+            try {
+                return serializer.deserialize(serialized, context.getResolver().getReturnType());
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Serializes the result into the off-heap tier. A result that can not be serialized simply isn't stored.
+         */
+        private void writeOffHeap(Object key, Object result, InvocationContext context) {
+            try {
+                String serialized = serializer.serialize(result, context.getResolver().getReturnType());
+                if (serialized != null) {
+                    offHeapStore.put(key, serialized);
+                }
+            } catch (RuntimeException e) {
+                //Not worth failing the invocation over
+            }
+        }
+
+        /**
+         * @return The key of the invocation's result, or {@code null} if it depends on a source that can't be identified
+         */
+        private Object cacheKey(InvocationContext context) {
+            Resolver resolver = context.getResolver();
+            Object source = context.getResolutionEnvironment().context;
+            Map<String, Object> arguments = context.getResolutionEnvironment().dataFetchingEnvironment.getArguments();
+            Object[] injected = new Object[injectedArguments.length];
+            for (int i = 0; i < injectedArguments.length; i++) {
+                injected[i] = context.getArguments()[injectedArguments[i]];
+            }
+            boolean sourceDependent = source != null && (!resolver.getSourceTypes().isEmpty()
+                    || resolver.getExecutable().getDelegate().getDeclaringClass().isInstance(source));
+            if (!sourceDependent) {
+                return Arrays.asList(arguments, Arrays.asList(injected));
+            }
+            return ClassUtils.getIdValue(source)
+                    .map(id -> Arrays.asList(source.getClass(), id, arguments, Arrays.asList(injected)))
+                    .orElse(null);
+        }
+
+        private static long weigh(Object result) {
+            if (result instanceof DataFetcherResult) {
+                return weigh(((DataFetcherResult<?>) result).getData());
+            }
+            if (result instanceof Collection) {
+                return 1 + ((Collection<?>) result).size();
+            }
+            if (result instanceof Map) {
+                return 1 + ((Map<?, ?>) result).size();
+            }
+            if (result != null && result.getClass().isArray()) {
+                return 1 + Array.getLength(result);
+            }
+            return 1;
+        }
+    }
+}
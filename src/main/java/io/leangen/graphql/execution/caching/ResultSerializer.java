@@ -0,0 +1,28 @@
+package io.leangen.graphql.execution.caching;
+
+import java.lang.reflect.AnnotatedType;
+
+/**
+ * Converts the results kept in the off-heap tier of a {@link ResolverCacheManager} to and from their serialized form.
+ * The deserialized result is served in place of the original one (and promoted into the on-heap cache),
+ * so it must be complete: only use a serializer for result types it fully round-trips.
+ * A result that fails to (de)serialize is simply not stored (or treated as a miss).
+ */
+public interface ResultSerializer {
+
+    /**
+     * @param result The (non-null) result to serialize
+     * @param type The return type of the resolver that produced the result
+     *
+     * @return The serialized result
+     */
+    String serialize(Object result, AnnotatedType type);
+
+    /**
+     * @param serialized The serialized result, as produced by {@link #serialize(Object, AnnotatedType)}
+     * @param type The return type of the resolver that produced the result
+     *
+     * @return The deserialized result
+     */
+    Object deserialize(String serialized, AnnotatedType type);
+}
@@ -1,34 +1,247 @@
 package io.leangen.graphql.execution.complexity;
 
 import graphql.ExecutionResult;
+import graphql.execution.ExecutionContext;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.SimpleInstrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import graphql.language.AstPrinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Rejects the operations exceeding any of the configured {@link OperationLimits}: their maximum complexity,
+ * as scored by a {@link ComplexityFunction}, and their maximum depth, field, alias and fragment expansion counts.
+ * <p>The outcomes are kept in a bounded LRU cache, keyed by the document (its text, or the parsed instance
+ * for persisted queries) and the operation name,
+ * plus the values of only those variables that can affect them: the ones deciding the inclusion
+ * of selections (via {@code @include} and {@code @skip}), and the ones used as arguments of fields whose score
+ * depends on their arguments (see {@link ComplexityFunction#isArgumentDependent(ResolvedField)}) or that are mapped
+ * to overloaded operations, whose resolver is chosen by the arguments present.
+ * Repeated executions of the same document thus only get analyzed once per distinct combination of e.g. paging arguments.</p>
+ * <p>The structural limits (depth, field, alias and fragment expansion counts), if any, are checked first,
+ * in a separate and cheap traversal of the document. The complexity is then scored either by building the full tree
+ * of {@link ResolvedField}s first, or in a single pass over the document that stops as soon as the maximum is exceeded
+ * (see {@link SinglePassComplexityAnalyzer} for the details and caveats).</p>
+ * <p>If a {@link ComplexityBudget} is set, each operation passing the limits is then charged its complexity
+ * to the budget of the client issuing it, and is rejected if the client can not afford it.</p>
+ */
 public class ComplexityAnalysisInstrumentation extends SimpleInstrumentation {
 
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
     private final ComplexityFunction complexityFunction;
-    private final int maximumComplexity;
+    private final OperationLimits limits;
+    private final boolean singlePass;
+    private final ComplexityBudget budget;
+    private final Map<List<Object>, List<String>> scoringVariables;
+    private final Map<List<Object>, Outcome> outcomes;
 
     private static final Logger log = LoggerFactory.getLogger(ComplexityAnalysisInstrumentation.class);
 
     public ComplexityAnalysisInstrumentation(ComplexityFunction complexityFunction, int maximumComplexity) {
+        this(complexityFunction, maximumComplexity, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param complexityFunction The function scoring each field
+     * @param maximumComplexity The maximum allowed complexity
+     * @param cacheSize The maximum number of cached outcomes. {@code 0} disables caching.
+     */
+    public ComplexityAnalysisInstrumentation(ComplexityFunction complexityFunction, int maximumComplexity, int cacheSize) {
+        this(complexityFunction, maximumComplexity, cacheSize, false);
+    }
+
+    /**
+     * @param complexityFunction The function scoring each field
+     * @param maximumComplexity The maximum allowed complexity
+     * @param cacheSize The maximum number of cached outcomes. {@code 0} disables caching.
+     * @param singlePass Whether to use the single-pass analysis, aborting as soon as the maximum is exceeded
+     */
+    public ComplexityAnalysisInstrumentation(ComplexityFunction complexityFunction, int maximumComplexity, int cacheSize, boolean singlePass) {
+        this(complexityFunction, OperationLimits.unlimited().withMaximumComplexity(maximumComplexity), cacheSize, singlePass);
+    }
+
+    /**
+     * @param complexityFunction The function scoring each field, or {@code null} if only the structural limits are of interest
+     * @param limits The limits to enforce
+     * @param cacheSize The maximum number of cached outcomes. {@code 0} disables caching.
+     * @param singlePass Whether to score the complexity in a single pass, aborting as soon as the maximum is exceeded
+     */
+    public ComplexityAnalysisInstrumentation(ComplexityFunction complexityFunction, OperationLimits limits, int cacheSize, boolean singlePass) {
+        this(complexityFunction, limits, cacheSize, singlePass, null);
+    }
+
+    /**
+     * @param complexityFunction The function scoring each field, or {@code null} if only the structural limits are of interest
+     * @param limits The limits to enforce
+     * @param cacheSize The maximum number of cached outcomes. {@code 0} disables caching.
+     * @param singlePass Whether to score the complexity in a single pass, aborting as soon as the maximum is exceeded
+     * @param budget The per-client budget to charge the complexity of each operation to, or {@code null} for none
+     */
+    public ComplexityAnalysisInstrumentation(ComplexityFunction complexityFunction, OperationLimits limits, int cacheSize,
+                                             boolean singlePass, ComplexityBudget budget) {
+        if (budget != null && complexityFunction == null) {
+            throw new IllegalArgumentException("A complexity function is needed to charge the complexity budget");
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
         this.complexityFunction = complexityFunction;
-        this.maximumComplexity = maximumComplexity;
+        this.limits = limits;
+        this.singlePass = singlePass;
+        this.budget = budget;
+        this.scoringVariables = cacheSize > 0 ? lruCache(cacheSize) : null;
+        this.outcomes = cacheSize > 0 ? lruCache(cacheSize) : null;
     }
 
     @Override
     public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters) {
-        ResolvedField root = new ComplexityAnalyzer(complexityFunction, maximumComplexity).collectFields(parameters.getExecutionContext());
-        if (log.isDebugEnabled()) {
-            log.debug("Operation {} has total complexity of {}",
-                    AstPrinter.printAst(parameters.getExecutionContext().getOperationDefinition().getSelectionSet().getSelections().get(0)),
-                    root.getComplexityScore());
+        ExecutionContext context = parameters.getExecutionContext();
+        Outcome outcome = outcomes == null ? analyze(context, new HashSet<>()) : getCachedOutcome(context);
+        if (outcome.violation != null) {
+            throw copy(outcome.violation);
+        }
+        //Charged on every execution, cached outcome or not
+        if (budget != null && !budget.tryCharge(context.getContext(), outcome.complexity)) {
+            throw new OperationLimitExceededException(OperationLimits.COMPLEXITY_BUDGET, outcome.complexity, budget.getAvailable(context.getContext()));
+        }
+        if (complexityFunction != null) {
+            log.info("Total operation complexity: {}", outcome.complexity);
         }
-        log.info("Total operation complexity: {}", root.getComplexityScore());
         return super.beginExecuteOperation(parameters);
     }
+
+    private Outcome getCachedOutcome(ExecutionContext context) {
+        List<Object> document = Arrays.asList(documentKey(context), context.getOperationDefinition().getName());
+        List<String> variables = scoringVariables.getOrDefault(document, Collections.emptyList());
+        Outcome cached = outcomes.get(scoreKey(document, variables, context));
+        if (cached != null) {
+            return cached;
+        }
+        Set<String> usedVariables = new HashSet<>();
+        Outcome outcome = analyze(context, usedVariables);
+        //The outcome is only valid for the variables the analysis actually looked at,
+        //so those seen for the first time extend the set considered for this document from now on
+        if (!variables.containsAll(usedVariables)) {
+            variables = union(variables, usedVariables);
+            scoringVariables.merge(document, variables, ComplexityAnalysisInstrumentation::union);
+        }
+        outcomes.put(scoreKey(document, variables, context), outcome);
+        return outcome;
+    }
+
+    private Outcome analyze(ExecutionContext context, Set<String> usedVariables) {
+        try {
+            if (limits.isStructurallyLimited()) {
+                analyzeStructure(context, usedVariables);
+            }
+            if (complexityFunction == null) {
+                return new Outcome(0, null);
+            }
+            return new Outcome(singlePass ? analyzeInSinglePass(context, usedVariables) : analyzeTree(context, usedVariables), null);
+        } catch (OperationLimitExceededException e) {
+            return new Outcome(0, e);
+        }
+    }
+
+    private void analyzeStructure(ExecutionContext context, Set<String> usedVariables) {
+        StructuralLimitsAnalyzer analyzer = new StructuralLimitsAnalyzer(limits);
+        try {
+            analyzer.analyze(context);
+        } finally {
+            usedVariables.addAll(analyzer.getScoringVariables());
+        }
+    }
+
+    private int analyzeInSinglePass(ExecutionContext context, Set<String> usedVariables) {
+        SinglePassComplexityAnalyzer analyzer = new SinglePassComplexityAnalyzer(complexityFunction, limits.getMaximumComplexity());
+        try {
+            return analyzer.analyze(context);
+        } finally {
+            usedVariables.addAll(analyzer.getScoringVariables());
+        }
+    }
+
+    private int analyzeTree(ExecutionContext context, Set<String> usedVariables) {
+        ComplexityAnalyzer analyzer = new ComplexityAnalyzer(complexityFunction, limits.getMaximumComplexity());
+        try {
+            ResolvedField root = analyzer.collectFields(context);
+            if (log.isDebugEnabled()) {
+                log.debug("Operation {} has total complexity of {}",
+                        AstPrinter.printAst(context.getOperationDefinition().getSelectionSet().getSelections().get(0)),
+                        root.getComplexityScore());
+            }
+            return root.getComplexityScore();
+        } finally {
+            usedVariables.addAll(analyzer.getScoringVariables());
+        }
+    }
+
+    private static OperationLimitExceededException copy(OperationLimitExceededException e) {
+        if (e instanceof ComplexityLimitExceededException) {
+            return new ComplexityLimitExceededException(e.getValue(), e.getMaximum());
+        }
+        return new OperationLimitExceededException(e.getLimit(), e.getValue(), e.getMaximum());
+    }
+
+    /**
+     * The query text identifies the document, except for persisted queries, where every request carries the same marker
+     * text instead. Those are identified by the (cached, hence shared) {@link graphql.language.Document} instance itself,
+     * which only ever equals itself.
+     */
+    private static Object documentKey(ExecutionContext context) {
+        String query = context.getExecutionInput().getQuery();
+        return PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query) ? context.getDocument() : query;
+    }
+
+    private static List<Object> scoreKey(List<Object> document, List<String> variables, ExecutionContext context) {
+        List<Object> values = new ArrayList<>(variables.size());
+        variables.forEach(variable -> values.add(context.getVariables().get(variable)));
+        return Arrays.asList(document, variables, values);
+    }
+
+    private static List<String> union(List<String> current, Collection<String> added) {
+        if (current.containsAll(added)) {
+            return current;
+        }
+        Set<String> union = new TreeSet<>(current);
+        union.addAll(added);
+        return Collections.unmodifiableList(new ArrayList<>(union));
+    }
+
+    private static <K, V> Map<K, V> lruCache(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * The result of analyzing an operation: either its total complexity, or the first limit it exceeded
+     */
+    private static class Outcome {
+
+        private final int complexity;
+        private final OperationLimitExceededException violation;
+
+        Outcome(int complexity, OperationLimitExceededException violation) {
+            this.complexity = complexity;
+            this.violation = violation;
+        }
+    }
 }
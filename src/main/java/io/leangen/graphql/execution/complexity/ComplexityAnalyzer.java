@@ -5,13 +5,18 @@ import graphql.execution.ExecutionContext;
 import graphql.execution.FieldCollectorParameters;
 import graphql.execution.ValuesResolver;
 import graphql.introspection.Introspection;
+import graphql.language.ArrayValue;
+import graphql.language.Directive;
 import graphql.language.Field;
 import graphql.language.FragmentDefinition;
 import graphql.language.FragmentSpread;
 import graphql.language.InlineFragment;
+import graphql.language.ObjectValue;
 import graphql.language.OperationDefinition;
 import graphql.language.Selection;
 import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.language.VariableReference;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLFieldsContainer;
 import graphql.schema.GraphQLObjectType;
@@ -21,10 +26,12 @@ import io.leangen.graphql.util.GraphQLUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +49,7 @@ class ComplexityAnalyzer {
     private final ConditionalNodes conditionalNodes;
     private final ComplexityFunction complexityFunction;
     private final int maximumComplexity;
+    private final Set<String> scoringVariables = new HashSet<>();
 
     private static final ValuesResolver valuesResolver = new ValuesResolver();
 
@@ -75,7 +83,9 @@ class ComplexityAnalyzer {
                     }
 
                     Map<String, Object> argumentValues = valuesResolver.getArgumentValues(fieldDefinition.getArguments(), field.getArguments(), context.getVariables());
-                    return collectFields(parameters, Collections.singletonList(new ResolvedField(field, fieldDefinition, argumentValues)));
+                    ResolvedField node = new ResolvedField(field, fieldDefinition, argumentValues);
+                    collectScoringVariables(node);
+                    return collectFields(parameters, Collections.singletonList(node));
                 })
                 .collect(Collectors.toMap(ResolvedField::getName, Function.identity()));
 
@@ -86,6 +96,15 @@ class ComplexityAnalyzer {
         return root;
     }
 
+    /**
+     * @return The names of the variables whose values were (or could have been) used to compute the score,
+     * i.e. those used by the directives deciding the inclusion of the visited selections,
+     * and by the arguments of the argument-dependent fields (see {@link ComplexityFunction#isArgumentDependent(ResolvedField)})
+     */
+    Set<String> getScoringVariables() {
+        return scoringVariables;
+    }
+
     /**
      * Given a list of fields this will collect the sub-field selections and return it as a map
      *
@@ -160,13 +179,13 @@ class ComplexityAnalyzer {
         if (visitedFragments.contains(fragmentSpread.getName())) {
             return;
         }
-        if (!conditionalNodes.shouldInclude(parameters.getVariables(), fragmentSpread.getDirectives())) {
+        if (!shouldInclude(parameters, fragmentSpread.getDirectives())) {
             return;
         }
         visitedFragments.add(fragmentSpread.getName());
         FragmentDefinition fragmentDefinition = definition(fragmentSpread, parameters);
 
-        if (!conditionalNodes.shouldInclude(parameters.getVariables(), fragmentDefinition.getDirectives())) {
+        if (!shouldInclude(parameters, fragmentDefinition.getDirectives())) {
             return;
         }
         if (fragmentDefinition.getTypeCondition() != null) {
@@ -178,7 +197,7 @@ class ComplexityAnalyzer {
     private void collectInlineFragment(FieldCollectorParameters parameters, Map<String, List<ResolvedField>> fields,
                                        List<String> visitedFragments, InlineFragment inlineFragment, GraphQLFieldsContainer parent) {
 
-        if (!conditionalNodes.shouldInclude(parameters.getVariables(), inlineFragment.getDirectives())) {
+        if (!shouldInclude(parameters, inlineFragment.getDirectives())) {
             return;
         }
         if (inlineFragment.getTypeCondition() != null) {
@@ -188,16 +207,53 @@ class ComplexityAnalyzer {
     }
 
     private void collectField(FieldCollectorParameters parameters, Map<String, List<ResolvedField>> fields, Field field, GraphQLFieldsContainer parent) {
-        if (!conditionalNodes.shouldInclude(parameters.getVariables(), field.getDirectives())) {
+        if (!shouldInclude(parameters, field.getDirectives())) {
             return;
         }
         GraphQLFieldDefinition fieldDefinition = parent.getFieldDefinition(field.getName());
         Map<String, Object> argumentValues = valuesResolver.getArgumentValues(fieldDefinition.getArguments(), field.getArguments(), parameters.getVariables());
         ResolvedField node = new ResolvedField(field, fieldDefinition, argumentValues);
+        collectScoringVariables(node);
         fields.putIfAbsent(node.getName(), new ArrayList<>());
         fields.get(node.getName()).add(node);
     }
 
+    private boolean shouldInclude(FieldCollectorParameters parameters, List<Directive> directives) {
+        collectVariables(directives, scoringVariables);
+        return conditionalNodes.shouldInclude(parameters.getVariables(), directives);
+    }
+
+    private void collectScoringVariables(ResolvedField node) {
+        if (isArgumentDependent(complexityFunction, node)) {
+            collectVariables(node.getField(), scoringVariables);
+        }
+    }
+
+    static boolean isArgumentDependent(ComplexityFunction complexityFunction, ResolvedField node) {
+        //The resolver of an overloaded operation, and thus the function's verdict, depends on the arguments in the first place
+        return node.isOverloaded() || complexityFunction.isArgumentDependent(node);
+    }
+
+    static void collectVariables(List<Directive> directives, Set<String> variables) {
+        for (Directive directive : directives) {
+            directive.getArguments().forEach(argument -> collectVariables(argument.getValue(), variables));
+        }
+    }
+
+    static void collectVariables(Field field, Set<String> variables) {
+        field.getArguments().forEach(argument -> collectVariables(argument.getValue(), variables));
+    }
+
+    private static void collectVariables(Value<?> value, Set<String> variables) {
+        if (value instanceof VariableReference) {
+            variables.add(((VariableReference) value).getName());
+        } else if (value instanceof ObjectValue) {
+            ((ObjectValue) value).getObjectFields().forEach(field -> collectVariables(field.getValue(), variables));
+        } else if (value instanceof ArrayValue) {
+            ((ArrayValue) value).getValues().forEach(element -> collectVariables(element, variables));
+        }
+    }
+
     @SuppressWarnings("WeakerAccess")
     protected Map<String, ResolvedField> reduceAlternatives(FieldCollectorParameters parameters,
                                                             Map<String, List<ResolvedField>> unconditionalSubFields,
@@ -244,7 +300,7 @@ class ComplexityAnalyzer {
                 || (selection instanceof InlineFragment && ((InlineFragment) selection).getTypeCondition() != null);
     }
 
-    private GraphQLObjectType getRootType(GraphQLSchema schema, OperationDefinition operationDefinition) {
+    static GraphQLObjectType getRootType(GraphQLSchema schema, OperationDefinition operationDefinition) {
         if (operationDefinition.getOperation() == OperationDefinition.Operation.MUTATION) {
             return Objects.requireNonNull(schema.getMutationType());
         } else if (operationDefinition.getOperation() == OperationDefinition.Operation.QUERY) {
@@ -0,0 +1,222 @@
+package io.leangen.graphql.execution.complexity;
+
+import io.leangen.graphql.util.ContextUtils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits clients by the complexity of their operations, rather than by their number. Each client gets a token bucket
+ * holding up to {@code capacity} complexity points, refilled at a constant rate, and each operation is charged its complexity
+ * score before it is executed (see {@link ComplexityAnalysisInstrumentation}). Operations costing more than the client
+ * has left are rejected, and cost nothing.
+ * <p>The client is identified by applying the given function to the request context (as provided to
+ * {@link graphql.ExecutionInput}). The operations of all the clients without an identity share a single bucket.</p>
+ * <p>Each bucket is a single atomic value, the time at which it will be full again (i.e. the generic cell rate algorithm),
+ * updated lock-free. Buckets are kept for at most {@code maxClients} clients: once there are more, the full buckets
+ * are evicted (which is lossless, as a full bucket is no different from a new one). Buckets still refilling are never
+ * evicted, as that would let a client reset its budget by rotating identities. While none can be evicted,
+ * the operations of all the clients without a bucket share a single overflow bucket instead.</p>
+ * <p>A bucket is evicted by atomically swapping its value for a tombstone, which only succeeds if no charge got in
+ * first. A charge running into a tombstone starts over with a fresh bucket, so no charge is ever lost to an eviction.</p>
+ */
+public class ComplexityBudget {
+
+    private static final Object ANONYMOUS = new Object();
+    //Marks an evicted bucket. Never a real value, as no bucket is full that far from now.
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final long capacity;
+    private final long nanosPerPoint;
+    private final long burstNanos;
+    private final int maxClients;
+    private final Function<Object, ?> clientIdentity;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    //The number of buckets, reserved before a new one is added so that there are never more than maxClients
+    private final AtomicInteger clients = new AtomicInteger();
+    private final AtomicLong overflow;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    //No bucket can be full (and thus evicted) before this time, so no sweep is needed until then
+    private volatile long nextEviction;
+
+    /**
+     * @param capacity The maximum number of points a client can accumulate, i.e. the largest burst it can spend at once
+     * @param pointsPerSecond The rate at which the buckets are refilled
+     * @param maxClients The maximum number of clients whose buckets are kept
+     * @param clientIdentity Extracts the client's identity from the request context. May return {@code null}.
+     */
+    public ComplexityBudget(int capacity, double pointsPerSecond, int maxClients, Function<Object, ?> clientIdentity) {
+        this(capacity, pointsPerSecond, maxClients, clientIdentity, System::nanoTime);
+    }
+
+    /**
+     * @param capacity The maximum number of points a client can accumulate, i.e. the largest burst it can spend at once
+     * @param pointsPerSecond The rate at which the buckets are refilled
+     * @param maxClients The maximum number of clients whose buckets are kept
+     * @param clientIdentity Extracts the client's identity from the request context. May return {@code null}.
+     * @param ticker The source of time (in nanoseconds) used to refill the buckets
+     */
+    public ComplexityBudget(int capacity, double pointsPerSecond, int maxClients, Function<Object, ?> clientIdentity, LongSupplier ticker) {
+        if (capacity <= 0 || pointsPerSecond <= 0 || maxClients <= 0) {
+            throw new IllegalArgumentException("Complexity budget capacity, refill rate and the number of clients must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerPoint = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / pointsPerSecond));
+        this.burstNanos = Math.multiplyExact(this.capacity, nanosPerPoint);
+        this.maxClients = maxClients;
+        this.clientIdentity = clientIdentity;
+        this.ticker = ticker;
+        this.overflow = new AtomicLong(ticker.getAsLong());
+        this.nextEviction = overflow.get();
+    }
+
+    /**
+     * Charges the given cost to the bucket of the client issuing the request, if there are enough points left in it
+     *
+     * @param context The request context
+     * @param cost The complexity score of the operation
+     *
+     * @return Whether the bucket had enough points, and was charged
+     */
+    public boolean tryCharge(Object context, int cost) {
+        if (cost <= 0) {
+            return true;
+        }
+        if (cost > capacity) {
+            return false;
+        }
+        long now = ticker.getAsLong();
+        Object client = identify(context);
+        long cap = now + burstNanos;
+        AtomicLong bucket = getBucket(client, now);
+        while (true) {
+            long fullAt = bucket.get();
+            if (fullAt == EVICTED) {
+                bucket = getBucket(client, now);
+                continue;
+            }
+            long charged = (fullAt - now > 0 ? fullAt : now) + cost * nanosPerPoint;
+            if (charged - cap > 0) {
+                return false;
+            }
+            if (bucket.compareAndSet(fullAt, charged)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param context The request context
+     *
+     * @return The number of points currently left in the bucket of the client issuing the request
+     */
+    public int getAvailable(Object context) {
+        AtomicLong bucket = buckets.get(identify(context));
+        long fullAt = bucket != null ? bucket.get() : EVICTED;
+        if (fullAt == EVICTED) {
+            //Evicted buckets were full
+            if (bucket != null || clients.get() < maxClients) {
+                return (int) capacity;
+            }
+            fullAt = overflow.get();
+        }
+        long deficit = fullAt - ticker.getAsLong();
+        return deficit <= 0 ? (int) capacity : (int) ((burstNanos - deficit) / nanosPerPoint);
+    }
+
+    private Object identify(Object context) {
+        Object identity = clientIdentity.apply(ContextUtils.unwrapContext(context));
+        return identity != null ? identity : ANONYMOUS;
+    }
+
+    private AtomicLong getBucket(Object client, long now) {
+        while (true) {
+            AtomicLong bucket = buckets.get(client);
+            if (bucket != null) {
+                if (bucket.get() != EVICTED) {
+                    return bucket;
+                }
+                //Evicted, but not yet removed by the sweep
+                remove(client, bucket);
+                continue;
+            }
+            if (!reserveClient(now)) {
+                return overflow;
+            }
+            //A bucket full by now is as good as a new one
+            AtomicLong created = new AtomicLong(now);
+            bucket = buckets.putIfAbsent(client, created);
+            if (bucket == null) {
+                return created;
+            }
+            //Another thread added a bucket for the same client in the meantime
+            clients.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reserves the room for one more bucket, evicting the full ones if there is none
+     *
+     * @return Whether the room was reserved
+     */
+    private boolean reserveClient(long now) {
+        while (true) {
+            int count = clients.get();
+            if (count >= maxClients) {
+                evict(now);
+                count = clients.get();
+                if (count >= maxClients) {
+                    return false;
+                }
+            }
+            if (clients.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void remove(Object client, AtomicLong bucket) {
+        if (buckets.remove(client, bucket)) {
+            clients.decrementAndGet();
+        }
+    }
+
+    private void evict(long now) {
+        //Only one thread evicts at a time, the others carry on
+        if (now - nextEviction < 0 || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            //Evict down to 90% of the maximum, so that the (linear) sweeps don't run on every new client
+            int target = maxClients - Math.max(1, maxClients / 10);
+            long earliestFullAt = now + burstNanos;
+            for (Iterator<Map.Entry<Object, AtomicLong>> it = buckets.entrySet().iterator(); it.hasNext() && clients.get() > target; ) {
+                Map.Entry<Object, AtomicLong> entry = it.next();
+                AtomicLong bucket = entry.getValue();
+                long fullAt = bucket.get();
+                if (fullAt == EVICTED) {
+                    remove(entry.getKey(), bucket);
+                } else if (fullAt - now <= 0) {
+                    //Fails if a charge got in first, in which case the bucket is no longer full
+                    if (bucket.compareAndSet(fullAt, EVICTED)) {
+                        remove(entry.getKey(), bucket);
+                    }
+                } else if (fullAt - earliestFullAt < 0) {
+                    earliestFullAt = fullAt;
+                }
+            }
+            //If the sweep fell short, it saw all the buckets, so none will be full before the earliest of them
+            nextEviction = clients.get() > target ? earliestFullAt : now;
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
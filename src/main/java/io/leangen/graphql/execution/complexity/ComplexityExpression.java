@@ -0,0 +1,613 @@
+package io.leangen.graphql.execution.complexity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled {@link io.leangen.graphql.annotations.GraphQLComplexity} expression.
+ * <p>The expressions are written in a small, JavaScript-like language supporting:</p>
+ * <ul>
+ *     <li>number, string ({@code 'asc'} or {@code "asc"}), {@code true}, {@code false} and {@code null} literals</li>
+ *     <li>references to the field's arguments (including nested input fields, e.g. {@code filter.limit})
+ *     and to the score of the field's children, via {@code childScore}</li>
+ *     <li>arithmetic ({@code + - * / %}), comparison ({@code < <= > >= == !=}) and logical ({@code && || !}) operators,
+ *     ternaries ({@code cond ? a : b}) and parentheses</li>
+ *     <li>the functions {@code min}, {@code max}, {@code abs}, {@code floor}, {@code ceil}, {@code round},
+ *     {@code sqrt} and {@code pow}, optionally prefixed with {@code Math.}</li>
+ * </ul>
+ * <p>Numeric arguments are used as they are, booleans as {@code 1} or {@code 0}, collections as their size,
+ * and missing or {@code null} arguments as {@code 0}. Strings (and enum values) can only be compared
+ * to string literals, e.g. {@code sort == 'ASC' ? 2 * childScore : childScore}. The result is truncated to an integer.</p>
+ * <p>Expressions are parsed once, into a tree that is evaluated without allocating.</p>
+ */
+public abstract class ComplexityExpression {
+
+    private final String expression;
+
+    private ComplexityExpression(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Compiles the given expression. Syntax errors are only reported on evaluation (as an {@link IllegalArgumentException}),
+     * so that expressions meant for a different {@link ComplexityFunction} never prevent schema generation.
+     *
+     * @param expression The expression to compile
+     *
+     * @return The compiled expression
+     */
+    public static ComplexityExpression compile(String expression) {
+        try {
+            Parser parser = new Parser(expression);
+            Node root = parser.parse();
+            return new Compiled(expression, root, parser.argumentDependent);
+        } catch (IllegalArgumentException e) {
+            return new Invalid(expression, e);
+        }
+    }
+
+    /**
+     * @param arguments The arguments of the field being scored
+     * @param childScore The total score of the field's children
+     *
+     * @return The score of the field
+     */
+    public abstract int evaluate(Map<String, Object> arguments, int childScore);
+
+    /**
+     * @return Whether the expression references any of the field's arguments,
+     * i.e. whether its result can differ between invocations with the same child score
+     */
+    public abstract boolean isArgumentDependent();
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static class Compiled extends ComplexityExpression {
+
+        private final Node root;
+        private final boolean argumentDependent;
+
+        Compiled(String expression, Node root, boolean argumentDependent) {
+            super(expression);
+            this.root = root;
+            this.argumentDependent = argumentDependent;
+        }
+
+        @Override
+        public int evaluate(Map<String, Object> arguments, int childScore) {
+            return (int) root.eval(arguments, childScore);
+        }
+
+        @Override
+        public boolean isArgumentDependent() {
+            return argumentDependent;
+        }
+    }
+
+    private static class Invalid extends ComplexityExpression {
+
+        private final IllegalArgumentException error;
+
+        Invalid(String expression, IllegalArgumentException error) {
+            super(expression);
+            this.error = error;
+        }
+
+        @Override
+        public int evaluate(Map<String, Object> arguments, int childScore) {
+            throw new IllegalArgumentException("Invalid complexity expression \"" + getExpression() + "\": " + error.getMessage(), error);
+        }
+
+        @Override
+        public boolean isArgumentDependent() {
+            return true;
+        }
+    }
+
+    private static boolean isTrue(double value) {
+        return value != 0 && !Double.isNaN(value);
+    }
+
+    private static double toNumber(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble((String) value);
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static abstract class Node {
+
+        abstract double eval(Map<String, Object> arguments, double childScore);
+
+        /**
+         * @return The raw value, only different from the numeric one for argument references
+         */
+        Object value(Map<String, Object> arguments, double childScore) {
+            return eval(arguments, childScore);
+        }
+    }
+
+    private static class Constant extends Node {
+
+        private final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            return value;
+        }
+    }
+
+    private static class StringLiteral extends Node {
+
+        private final String value;
+
+        StringLiteral(String value) {
+            this.value = value;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            return toNumber(value);
+        }
+
+        @Override
+        Object value(Map<String, Object> arguments, double childScore) {
+            return value;
+        }
+    }
+
+    private static class ChildScore extends Node {
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            return childScore;
+        }
+    }
+
+    private static class Argument extends Node {
+
+        private final String[] path;
+
+        Argument(String[] path) {
+            this.path = path;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            return toNumber(value(arguments, childScore));
+        }
+
+        @Override
+        Object value(Map<String, Object> arguments, double childScore) {
+            Object value = arguments;
+            for (String segment : path) {
+                if (!(value instanceof Map)) {
+                    return null;
+                }
+                value = ((Map<?, ?>) value).get(segment);
+            }
+            return value;
+        }
+    }
+
+    private static class Unary extends Node {
+
+        private final char operator;
+        private final Node operand;
+
+        Unary(char operator, Node operand) {
+            this.operator = operator;
+            this.operand = operand;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            double value = operand.eval(arguments, childScore);
+            switch (operator) {
+                case '-': return -value;
+                case '!': return isTrue(value) ? 0 : 1;
+                default: return value;
+            }
+        }
+    }
+
+    private static class Binary extends Node {
+
+        private static final List<String> OPERATORS = Arrays.asList("&&", "||", "+", "-", "*", "/", "%", "<", "<=", ">", ">=", "==", "!=");
+
+        private final int operator;
+        private final Node left;
+        private final Node right;
+
+        Binary(String operator, Node left, Node right) {
+            this.operator = OPERATORS.indexOf(operator);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            double l = left.eval(arguments, childScore);
+            //Short-circuiting, returning the deciding operand (as JavaScript does)
+            if (operator == 0) {
+                return isTrue(l) ? right.eval(arguments, childScore) : l;
+            }
+            if (operator == 1) {
+                return isTrue(l) ? l : right.eval(arguments, childScore);
+            }
+            double r = right.eval(arguments, childScore);
+            switch (operator) {
+                case 2: return l + r;
+                case 3: return l - r;
+                case 4: return l * r;
+                case 5: return l / r;
+                case 6: return l % r;
+                case 7: return l < r ? 1 : 0;
+                case 8: return l <= r ? 1 : 0;
+                case 9: return l > r ? 1 : 0;
+                case 10: return l >= r ? 1 : 0;
+                case 11: return l == r ? 1 : 0;
+                default: return l != r ? 1 : 0;
+            }
+        }
+    }
+
+    private static class StringEquality extends Node {
+
+        private final Node operand;
+        private final String literal;
+        private final boolean negated;
+
+        StringEquality(Node operand, String literal, boolean negated) {
+            this.operand = operand;
+            this.literal = literal;
+            this.negated = negated;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            Object value = operand.value(arguments, childScore);
+            boolean equal = value != null && (value instanceof String ? value.equals(literal) : value.toString().equals(literal));
+            return equal != negated ? 1 : 0;
+        }
+    }
+
+    private static class Conditional extends Node {
+
+        private final Node condition;
+        private final Node then;
+        private final Node otherwise;
+
+        Conditional(Node condition, Node then, Node otherwise) {
+            this.condition = condition;
+            this.then = then;
+            this.otherwise = otherwise;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            return isTrue(condition.eval(arguments, childScore)) ? then.eval(arguments, childScore) : otherwise.eval(arguments, childScore);
+        }
+    }
+
+    private static class Function extends Node {
+
+        private static final List<String> NAMES = Arrays.asList("min", "max", "pow", "abs", "floor", "ceil", "round", "sqrt");
+
+        private final int function;
+        private final Node[] operands;
+
+        Function(String name, Node[] operands) {
+            this.function = NAMES.indexOf(name);
+            this.operands = operands;
+        }
+
+        @Override
+        double eval(Map<String, Object> arguments, double childScore) {
+            double first = operands[0].eval(arguments, childScore);
+            switch (function) {
+                case 0:
+                    for (int i = 1; i < operands.length; i++) {
+                        first = Math.min(first, operands[i].eval(arguments, childScore));
+                    }
+                    return first;
+                case 1:
+                    for (int i = 1; i < operands.length; i++) {
+                        first = Math.max(first, operands[i].eval(arguments, childScore));
+                    }
+                    return first;
+                case 2: return Math.pow(first, operands[1].eval(arguments, childScore));
+                case 3: return Math.abs(first);
+                case 4: return Math.floor(first);
+                case 5: return Math.ceil(first);
+                case 6: return Math.floor(first + 0.5);
+                default: return Math.sqrt(first);
+            }
+        }
+
+        /**
+         * @return The number of operands the function takes, -1 if variable, or 0 if the function is unknown
+         */
+        static int arity(String name) {
+            int function = NAMES.indexOf(name);
+            return function < 0 ? 0 : function < 2 ? -1 : function == 2 ? 2 : 1;
+        }
+    }
+
+    /**
+     * A recursive descent parser, with the usual (JavaScript) operator precedence
+     */
+    private static class Parser {
+
+        private final String input;
+        private int position;
+        private boolean argumentDependent;
+
+        Parser(String input) {
+            this.input = input;
+        }
+
+        Node parse() {
+            Node root = ternary();
+            skipWhitespace();
+            if (position < input.length()) {
+                throw error("Unexpected '" + input.charAt(position) + "'");
+            }
+            return root;
+        }
+
+        private Node ternary() {
+            Node condition = or();
+            if (consume("?")) {
+                Node then = ternary();
+                expect(":");
+                return new Conditional(condition, then, ternary());
+            }
+            return condition;
+        }
+
+        private Node or() {
+            Node left = and();
+            while (consume("||")) {
+                left = new Binary("||", left, and());
+            }
+            return left;
+        }
+
+        private Node and() {
+            Node left = equality();
+            while (consume("&&")) {
+                left = new Binary("&&", left, equality());
+            }
+            return left;
+        }
+
+        private Node equality() {
+            Node left = comparison();
+            while (true) {
+                String operator = consume("==") ? "==" : consume("!=") ? "!=" : null;
+                if (operator == null) {
+                    return left;
+                }
+                consume("="); //Strict (in)equality is treated the same
+                Node right = comparison();
+                boolean negated = operator.equals("!=");
+                if (right instanceof StringLiteral) {
+                    left = new StringEquality(left, ((StringLiteral) right).value, negated);
+                } else if (left instanceof StringLiteral) {
+                    left = new StringEquality(right, ((StringLiteral) left).value, negated);
+                } else {
+                    left = new Binary(operator, left, right);
+                }
+            }
+        }
+
+        private Node comparison() {
+            Node left = additive();
+            while (true) {
+                String operator = consume("<=") ? "<=" : consume(">=") ? ">=" : consume("<") ? "<" : consume(">") ? ">" : null;
+                if (operator == null) {
+                    return left;
+                }
+                left = new Binary(operator, left, additive());
+            }
+        }
+
+        private Node additive() {
+            Node left = multiplicative();
+            while (true) {
+                String operator = consume("+") ? "+" : consume("-") ? "-" : null;
+                if (operator == null) {
+                    return left;
+                }
+                left = new Binary(operator, left, multiplicative());
+            }
+        }
+
+        private Node multiplicative() {
+            Node left = unary();
+            while (true) {
+                String operator = consume("*") ? "*" : consume("/") ? "/" : consume("%") ? "%" : null;
+                if (operator == null) {
+                    return left;
+                }
+                left = new Binary(operator, left, unary());
+            }
+        }
+
+        private Node unary() {
+            if (consume("-")) {
+                return new Unary('-', unary());
+            }
+            if (consume("+")) {
+                return new Unary('+', unary());
+            }
+            if (peek() == '!' && !input.startsWith("!=", position)) {
+                position++;
+                return new Unary('!', unary());
+            }
+            return primary();
+        }
+
+        private Node primary() {
+            skipWhitespace();
+            if (position >= input.length()) {
+                throw error("Unexpected end of expression");
+            }
+            char c = input.charAt(position);
+            if (c == '(') {
+                position++;
+                Node inner = ternary();
+                expect(")");
+                return inner;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return number();
+            }
+            if (c == '\'' || c == '"') {
+                return string(c);
+            }
+            if (Character.isJavaIdentifierStart(c)) {
+                return reference();
+            }
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private Node number() {
+            int start = position;
+            while (position < input.length() && (Character.isDigit(input.charAt(position)) || input.charAt(position) == '.')) {
+                position++;
+            }
+            try {
+                return new Constant(Double.parseDouble(input.substring(start, position)));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number " + input.substring(start, position));
+            }
+        }
+
+        private Node string(char quote) {
+            int start = ++position;
+            while (position < input.length() && input.charAt(position) != quote) {
+                position++;
+            }
+            if (position >= input.length()) {
+                throw error("Unterminated string");
+            }
+            return new StringLiteral(input.substring(start, position++));
+        }
+
+        private Node reference() {
+            List<String> path = new ArrayList<>();
+            path.add(identifier());
+            while (position < input.length() && input.charAt(position) == '.') {
+                position++;
+                path.add(identifier());
+            }
+            if (consume("(")) {
+                String name = path.size() == 2 && path.get(0).equals("Math") ? path.get(1) : String.join(".", path);
+                return function(name);
+            }
+            if (path.size() == 1) {
+                switch (path.get(0)) {
+                    case "childScore": return new ChildScore();
+                    case "true": return new Constant(1);
+                    case "false":
+                    case "null":
+                        return new Constant(0);
+                }
+            }
+            argumentDependent = true;
+            return new Argument(path.toArray(new String[0]));
+        }
+
+        private Node function(String name) {
+            int arity = Function.arity(name);
+            if (arity == 0) {
+                throw error("Unknown function " + name);
+            }
+            List<Node> operands = new ArrayList<>();
+            if (!consume(")")) {
+                do {
+                    operands.add(ternary());
+                } while (consume(","));
+                expect(")");
+            }
+            if (operands.isEmpty() || (arity > 0 && operands.size() != arity)) {
+                throw error("Wrong number of arguments for " + name);
+            }
+            return new Function(name, operands.toArray(new Node[0]));
+        }
+
+        private String identifier() {
+            skipWhitespace();
+            int start = position;
+            if (position >= input.length() || !Character.isJavaIdentifierStart(input.charAt(position))) {
+                throw error("Identifier expected");
+            }
+            while (position < input.length() && Character.isJavaIdentifierPart(input.charAt(position))) {
+                position++;
+            }
+            return input.substring(start, position);
+        }
+
+        private char peek() {
+            skipWhitespace();
+            return position < input.length() ? input.charAt(position) : 0;
+        }
+
+        private boolean consume(String token) {
+            skipWhitespace();
+            if (input.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!consume(token)) {
+                throw error("'" + token + "' expected");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position);
+        }
+    }
+}
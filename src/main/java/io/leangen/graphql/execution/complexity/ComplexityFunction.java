@@ -4,4 +4,17 @@ package io.leangen.graphql.execution.complexity;
 public interface ComplexityFunction {
     
     int getComplexity(ResolvedField node, int childScore);
+
+    /**
+     * Tells whether the score of the given field can depend on the values of its arguments.
+     * The variables only used by the arguments of argument-independent fields can then be ignored
+     * when caching the complexity of an operation (see {@link ComplexityAnalysisInstrumentation}).
+     *
+     * @param node The field being scored
+     *
+     * @return {@code false} only if the score of the field is guaranteed to be the same regardless of its arguments
+     */
+    default boolean isArgumentDependent(ResolvedField node) {
+        return true;
+    }
 }
@@ -1,23 +1,16 @@
 package io.leangen.graphql.execution.complexity;
 
-import graphql.execution.AbortExecutionException;
-
-public class ComplexityLimitExceededException extends AbortExecutionException {
-
-    private final int complexity;
-    private final int maximumComplexity;
+public class ComplexityLimitExceededException extends OperationLimitExceededException {
 
     ComplexityLimitExceededException(int complexity, int maximumComplexity) {
-        super("Requested operation exceeds the permitted complexity limit: " + complexity + " > " + maximumComplexity);
-        this.complexity = complexity;
-        this.maximumComplexity = maximumComplexity;
+        super(OperationLimits.COMPLEXITY, complexity, maximumComplexity);
     }
 
     public int getComplexity() {
-        return complexity;
+        return getValue();
     }
 
     public int getMaximumComplexity() {
-        return maximumComplexity;
+        return getMaximum();
     }
 }
@@ -0,0 +1,72 @@
+package io.leangen.graphql.execution.complexity;
+
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.util.Map;
+
+/**
+ * Scores the fields with a complexity expression (see {@link io.leangen.graphql.annotations.GraphQLComplexity})
+ * using the built-in expression language (see {@link ComplexityExpression}). The expressions are compiled once,
+ * as the resolvers are created, so scoring a field never parses anything.
+ * <p>Fields without an expression are scored as {@code 1} if they are leaves (scalars or enums),
+ * as the page size times the child score if they are Relay connections with a {@code first} or {@code last} argument,
+ * or as {@code 1 + childScore} otherwise.</p>
+ */
+public class DefaultComplexityFunction implements ComplexityFunction {
+
+    @Override
+    public int getComplexity(ResolvedField node, int childScore) {
+        Resolver resolver = node.getResolver();
+        if (resolver == null || resolver.getCompiledComplexityExpression() == null) {
+            return getDefaultComplexity(node, childScore);
+        }
+        try {
+            return resolver.getCompiledComplexityExpression().evaluate(node.getArguments(), childScore);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(String.format("Complexity expression \"%s\" on field %s could not be evaluated",
+                    resolver.getComplexityExpression(), node.getName()), e);
+        }
+    }
+
+    @Override
+    public boolean isArgumentDependent(ResolvedField node) {
+        Resolver resolver = node.getResolver();
+        if (resolver != null && resolver.isComplexityVariableIndependent()) {
+            return false;
+        }
+        if (resolver == null || resolver.getCompiledComplexityExpression() == null) {
+            return GraphQLUtils.isRelayConnectionType(node.getFieldType());
+        }
+        return resolver.getCompiledComplexityExpression().isArgumentDependent();
+    }
+
+    static int getDefaultComplexity(ResolvedField node, int childScore) {
+        GraphQLType fieldType = node.getFieldType();
+        if (fieldType instanceof GraphQLScalarType || fieldType instanceof GraphQLEnumType) {
+            return 1;
+        }
+        if (GraphQLUtils.isRelayConnectionType(fieldType)) {
+            Integer pageSize = getPageSize(node.getArguments());
+            if (pageSize != null) {
+                return pageSize * childScore;
+            }
+        }
+        return 1 + childScore;
+    }
+
+    private static Integer getPageSize(Map<String, Object> arguments) {
+        Object size = arguments.get("first");
+        if (size instanceof Integer) {
+            return (Integer) size;
+        }
+        size = arguments.get("last");
+        if (size instanceof Integer) {
+            return (Integer) size;
+        }
+        return null;
+    }
+}
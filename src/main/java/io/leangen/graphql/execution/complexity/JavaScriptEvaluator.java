@@ -1,17 +1,19 @@
 package io.leangen.graphql.execution.complexity;
 
-import graphql.schema.GraphQLEnumType;
-import graphql.schema.GraphQLScalarType;
-import graphql.schema.GraphQLType;
 import io.leangen.graphql.metadata.Resolver;
-import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Utils;
 
 import javax.script.Bindings;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
-import java.util.Map;
 
+/**
+ * Evaluates the complexity expressions as JavaScript, via the Nashorn {@link ScriptEngine}
+ *
+ * @deprecated Nashorn is no longer shipped with the JDK (since 15), and the expressions are re-evaluated from source
+ * on each use. Use {@link DefaultComplexityFunction} instead.
+ */
+@Deprecated
 public class JavaScriptEvaluator implements ComplexityFunction {
     
     private final ScriptEngine engine;
@@ -25,17 +27,7 @@ public class JavaScriptEvaluator implements ComplexityFunction {
     public int getComplexity(ResolvedField node, int childScore) {
         Resolver resolver = node.getResolver();
         if (resolver == null || Utils.isEmpty(resolver.getComplexityExpression())) {
-            GraphQLType fieldType = node.getFieldType();
-            if (fieldType instanceof GraphQLScalarType || fieldType instanceof GraphQLEnumType) {
-                return 1;
-            }
-            if (GraphQLUtils.isRelayConnectionType(fieldType)) {
-                Integer pageSize = getPageSize(node.getArguments());
-                if (pageSize != null) {
-                    return pageSize * childScore;
-                }
-            }
-            return 1 + childScore;
+            return DefaultComplexityFunction.getDefaultComplexity(node, childScore);
         }
         Bindings bindings = engine.createBindings();
         bindings.putAll(node.getArguments());
@@ -47,16 +39,4 @@ public class JavaScriptEvaluator implements ComplexityFunction {
                     resolver.getComplexityExpression(), node.getName()), e);
         }
     }
-
-    private Integer getPageSize(Map<String, Object> arguments) {
-        Object size = arguments.get("first");
-        if (size instanceof Integer) {
-            return (Integer) size;
-        }
-        size = arguments.get("last");
-        if (size instanceof Integer) {
-            return (Integer) size;
-        }
-        return null;
-    }
 }
@@ -0,0 +1,39 @@
+package io.leangen.graphql.execution.complexity;
+
+import graphql.execution.AbortExecutionException;
+
+/**
+ * Thrown when an operation exceeds one of the configured {@link OperationLimits}
+ */
+public class OperationLimitExceededException extends AbortExecutionException {
+
+    private final String limit;
+    private final int value;
+    private final int maximum;
+
+    OperationLimitExceededException(String limit, int value, int maximum) {
+        super("Requested operation exceeds the permitted " + limit + " limit: " + value + " > " + maximum);
+        this.limit = limit;
+        this.value = value;
+        this.maximum = maximum;
+    }
+
+    /**
+     * @return The name of the exceeded limit, e.g. {@code depth} or {@code alias count}
+     */
+    public String getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The value reached by the operation. As the analysis stops as soon as a limit is exceeded,
+     * this is not necessarily the value the whole operation would reach.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+}
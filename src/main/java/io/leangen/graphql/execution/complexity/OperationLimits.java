@@ -0,0 +1,105 @@
+package io.leangen.graphql.execution.complexity;
+
+/**
+ * The limits imposed on each operation by {@link ComplexityAnalysisInstrumentation}, checked against the operation
+ * as expanded for the actual variables (i.e. excluding the selections skipped via {@code @skip} or {@code @include}).
+ * The structural ones (all but complexity) are checked in a single traversal, before the complexity is scored.
+ * Exceeding any of them aborts the execution with an {@link OperationLimitExceededException}.
+ * <ul>
+ *     <li>complexity: the total score of the operation, as computed by a {@link ComplexityFunction}</li>
+ *     <li>depth: the deepest level of field nesting, counting the root fields as {@code 1}</li>
+ *     <li>field count: the number of selected fields, counting each field once per fragment expansion</li>
+ *     <li>alias count: the number of aliased fields, counted the same way</li>
+ *     <li>fragment expansion count: the number of expanded fragment spreads</li>
+ * </ul>
+ * Instances are immutable. All the limits are off ({@link Integer#MAX_VALUE}) unless set.
+ */
+public class OperationLimits {
+
+    public static final String COMPLEXITY = "complexity";
+    public static final String DEPTH = "depth";
+    public static final String FIELD_COUNT = "field count";
+    public static final String ALIAS_COUNT = "alias count";
+    public static final String FRAGMENT_EXPANSION_COUNT = "fragment expansion count";
+    /**
+     * Not a limit per se, but the name reported when a client runs out of its {@link ComplexityBudget}
+     */
+    public static final String COMPLEXITY_BUDGET = "complexity budget";
+
+    private static final OperationLimits UNLIMITED = new OperationLimits(Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final int maximumComplexity;
+    private final int maximumDepth;
+    private final int maximumFieldCount;
+    private final int maximumAliasCount;
+    private final int maximumFragmentExpansionCount;
+
+    private OperationLimits(int maximumComplexity, int maximumDepth, int maximumFieldCount, int maximumAliasCount,
+                            int maximumFragmentExpansionCount) {
+        this.maximumComplexity = validate(maximumComplexity);
+        this.maximumDepth = validate(maximumDepth);
+        this.maximumFieldCount = validate(maximumFieldCount);
+        this.maximumAliasCount = validate(maximumAliasCount);
+        this.maximumFragmentExpansionCount = validate(maximumFragmentExpansionCount);
+    }
+
+    public static OperationLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    public OperationLimits withMaximumComplexity(int maximumComplexity) {
+        return new OperationLimits(maximumComplexity, maximumDepth, maximumFieldCount, maximumAliasCount, maximumFragmentExpansionCount);
+    }
+
+    public OperationLimits withMaximumDepth(int maximumDepth) {
+        return new OperationLimits(maximumComplexity, maximumDepth, maximumFieldCount, maximumAliasCount, maximumFragmentExpansionCount);
+    }
+
+    public OperationLimits withMaximumFieldCount(int maximumFieldCount) {
+        return new OperationLimits(maximumComplexity, maximumDepth, maximumFieldCount, maximumAliasCount, maximumFragmentExpansionCount);
+    }
+
+    public OperationLimits withMaximumAliasCount(int maximumAliasCount) {
+        return new OperationLimits(maximumComplexity, maximumDepth, maximumFieldCount, maximumAliasCount, maximumFragmentExpansionCount);
+    }
+
+    public OperationLimits withMaximumFragmentExpansionCount(int maximumFragmentExpansionCount) {
+        return new OperationLimits(maximumComplexity, maximumDepth, maximumFieldCount, maximumAliasCount, maximumFragmentExpansionCount);
+    }
+
+    public int getMaximumComplexity() {
+        return maximumComplexity;
+    }
+
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    public int getMaximumFieldCount() {
+        return maximumFieldCount;
+    }
+
+    public int getMaximumAliasCount() {
+        return maximumAliasCount;
+    }
+
+    public int getMaximumFragmentExpansionCount() {
+        return maximumFragmentExpansionCount;
+    }
+
+    /**
+     * @return Whether any limit other than complexity is set
+     */
+    public boolean isStructurallyLimited() {
+        return maximumDepth != Integer.MAX_VALUE || maximumFieldCount != Integer.MAX_VALUE
+                || maximumAliasCount != Integer.MAX_VALUE || maximumFragmentExpansionCount != Integer.MAX_VALUE;
+    }
+
+    private static int validate(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Operation limits must not be negative");
+        }
+        return limit;
+    }
+}
@@ -9,6 +9,7 @@ import io.leangen.graphql.util.GraphQLUtils;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ResolvedField {
 
@@ -16,9 +17,11 @@ public class ResolvedField {
     private final Field field;
     private final GraphQLFieldDefinition fieldDefinition;
     private final GraphQLOutputType fieldType;
-    private final Map<String, Object> arguments;
+    private final Supplier<Map<String, Object>> argumentSupplier;
     private final Resolver resolver;
 
+    private Map<String, Object> arguments;
+
     private Map<String, ResolvedField> children;
     private int complexityScore;
 
@@ -32,8 +35,22 @@ public class ResolvedField {
         this.fieldDefinition = fieldDefinition;
         this.fieldType = (GraphQLOutputType) GraphQLUtils.unwrap(fieldDefinition.getType());
         this.arguments = arguments;
+        this.argumentSupplier = null;
         this.children = children;
-        this.resolver = findResolver(fieldDefinition, arguments);
+        this.resolver = findResolver(fieldDefinition);
+    }
+
+    /**
+     * Creates a childless node whose argument values are only resolved if and when they're first requested
+     */
+    ResolvedField(Field field, GraphQLFieldDefinition fieldDefinition, Supplier<Map<String, Object>> arguments) {
+        this.name = field.getAlias() != null ? field.getAlias() : field.getName();
+        this.field = field;
+        this.fieldDefinition = fieldDefinition;
+        this.fieldType = (GraphQLOutputType) GraphQLUtils.unwrap(fieldDefinition.getType());
+        this.argumentSupplier = arguments;
+        this.children = Collections.emptyMap();
+        this.resolver = findResolver(fieldDefinition);
     }
 
     public ResolvedField(Map<String, ResolvedField> children) {
@@ -42,17 +59,29 @@ public class ResolvedField {
         this.fieldDefinition = null;
         this.fieldType = null;
         this.arguments = null;
+        this.argumentSupplier = null;
         this.children = children;
         this.resolver = null;
         this.complexityScore = children.values().stream().mapToInt(ResolvedField::getComplexityScore).sum();
     }
 
-    private Resolver findResolver(GraphQLFieldDefinition fieldDefinition, Map<String, Object> arguments) {
+    private Resolver findResolver(GraphQLFieldDefinition fieldDefinition) {
         return Directives.getMappedOperation(fieldDefinition)
-                .map(operation -> operation.getApplicableResolver(arguments.keySet()))
+                //The arguments only need resolving if there's more than one candidate
+                .map(operation -> operation.getApplicableResolver(operation.getResolvers().size() == 1 ? Collections.emptySet() : getArguments().keySet()))
                 .orElse(null);
     }
 
+    /**
+     * @return Whether the field is mapped to an operation with more than one resolver, in which case
+     * the resolver (and thus the scoring of the field) is chosen by the arguments that are present
+     */
+    boolean isOverloaded() {
+        return fieldDefinition != null && Directives.getMappedOperation(fieldDefinition)
+                .map(operation -> operation.getResolvers().size() > 1)
+                .orElse(false);
+    }
+
     public String getName() {
         return name;
     }
@@ -70,6 +99,9 @@ public class ResolvedField {
     }
 
     public Map<String, Object> getArguments() {
+        if (arguments == null && argumentSupplier != null) {
+            arguments = argumentSupplier.get();
+        }
         return arguments;
     }
 
@@ -0,0 +1,329 @@
+package io.leangen.graphql.execution.complexity;
+
+import graphql.execution.ConditionalNodes;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ValuesResolver;
+import graphql.introspection.Introspection;
+import graphql.language.Directive;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.GraphQLCompositeType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An alternative to {@link ComplexityAnalyzer} computing the same scores in a single pass over the AST,
+ * driven by an explicit stack instead of recursion, and without building a tree of {@link ResolvedField}s.
+ * The nodes given to the {@link ComplexityFunction} thus have no children, and the values of their arguments
+ * are only resolved if the function asks for them (e.g. because the complexity expression references any).
+ * <p>Each selection is scored once: the unconditional ones are scored before, and apart from, the alternatives formed
+ * by the type conditions, so the alternatives only add the scores of their own selections. Only a response key selected
+ * both unconditionally and under a type condition gets scored again as a whole, and the scores of the sub-selections
+ * already seen are reused, so the traversal stays linear in the size of the (expanded) document.</p>
+ * <p>The analysis is aborted as soon as the running score of any selection exceeds the maximum, so the score
+ * reported by the resulting {@link ComplexityLimitExceededException} is only a lower bound of the total.
+ * This assumes a field is never less complex than its sub-selections combined, which holds for the default scoring
+ * but not necessarily for custom expressions (e.g. constant ones).</p>
+ */
+class SinglePassComplexityAnalyzer {
+
+    private final ConditionalNodes conditionalNodes;
+    private final ComplexityFunction complexityFunction;
+    private final int maximumComplexity;
+    private final Set<String> scoringVariables = new HashSet<>();
+    //GraphQL nodes don't override equals, so the fields are compared by identity
+    private final Map<List<Field>, Integer> scores = new HashMap<>();
+
+    private static final ValuesResolver valuesResolver = new ValuesResolver();
+
+    SinglePassComplexityAnalyzer(ComplexityFunction complexityFunction, int maximumComplexity) {
+        this.conditionalNodes = new ConditionalNodes();
+        this.complexityFunction = complexityFunction;
+        this.maximumComplexity = maximumComplexity;
+    }
+
+    /**
+     * @param context The context of the operation to analyze
+     *
+     * @return The total complexity score of the operation
+     *
+     * @throws ComplexityLimitExceededException as soon as the running score exceeds the maximum
+     */
+    int analyze(ExecutionContext context) {
+        OperationDefinition operation = context.getOperationDefinition();
+        GraphQLCompositeType rootType = ComplexityAnalyzer.getRootType(context.getGraphQLSchema(), operation);
+        Deque<Selections> stack = new ArrayDeque<>();
+        stack.push(collectSelections(context, null, null, rootType, Collections.singletonList(operation.getSelectionSet())));
+
+        while (true) {
+            Selections current = stack.peek();
+            FieldGroup group = current.next();
+            if (group == null) {
+                stack.pop();
+                if (stack.isEmpty()) {
+                    return current.getScore();
+                }
+                int score = complexityFunction.getComplexity(current.node, current.getScore());
+                scores.put(current.group.fields, score);
+                add(stack.peek(), current.group, score);
+                continue;
+            }
+            Integer known = group.leaf ? null : scores.get(group.fields);
+            if (known != null) {
+                add(current, group, known);
+                continue;
+            }
+            Field field = group.fields.get(0);
+            ResolvedField node = new ResolvedField(field, group.definition,
+                    () -> valuesResolver.getArgumentValues(group.definition.getArguments(), field.getArguments(), context.getVariables()));
+            if (ComplexityAnalyzer.isArgumentDependent(complexityFunction, node)) {
+                ComplexityAnalyzer.collectVariables(field, scoringVariables);
+            }
+            if (group.leaf) {
+                add(current, group, complexityFunction.getComplexity(node, 0));
+            } else {
+                List<SelectionSet> selectionSets = new ArrayList<>(group.fields.size());
+                group.fields.forEach(f -> selectionSets.add(f.getSelectionSet()));
+                GraphQLCompositeType fieldType = (GraphQLCompositeType) GraphQLUtils.unwrap(group.definition.getType());
+                stack.push(collectSelections(context, node, group, fieldType, selectionSets));
+            }
+        }
+    }
+
+    /**
+     * @return The names of the variables whose values were (or could have been) used to compute the score
+     *
+     * @see ComplexityAnalyzer#getScoringVariables()
+     */
+    Set<String> getScoringVariables() {
+        return scoringVariables;
+    }
+
+    private void add(Selections selections, FieldGroup group, int score) {
+        long runningScore = selections.add(group, score);
+        if (runningScore > maximumComplexity) {
+            throw new ComplexityLimitExceededException((int) Math.min(runningScore, Integer.MAX_VALUE), maximumComplexity);
+        }
+    }
+
+    /**
+     * Groups the fields selected (directly or via fragments) in the given selection sets by their response keys.
+     * Same as in {@link ComplexityAnalyzer}, the fragments with a type condition at the top level of the selection sets
+     * form alternatives (one per type), each added to the unconditional selections, the most complex of which counts.
+     * A group in an alternative whose key is also selected unconditionally is merged with (and scored in place of)
+     * the unconditional group.
+     */
+    private Selections collectSelections(ExecutionContext context, ResolvedField node, FieldGroup group,
+                                         GraphQLCompositeType parent, List<SelectionSet> selectionSets) {
+        Set<String> visitedFragments = new HashSet<>();
+        Map<String, FieldGroup> unconditional = new LinkedHashMap<>();
+        Map<String, Map<String, FieldGroup>> conditional = null;
+        for (SelectionSet selectionSet : selectionSets) {
+            for (Selection<?> selection : selectionSet.getSelections()) {
+                if (getTypeCondition(context, selection) == null) {
+                    collect(context, selection, unconditional, visitedFragments, parent);
+                }
+            }
+        }
+        for (SelectionSet selectionSet : selectionSets) {
+            for (Selection<?> selection : selectionSet.getSelections()) {
+                String typeCondition = getTypeCondition(context, selection);
+                if (typeCondition != null) {
+                    if (conditional == null) {
+                        conditional = new LinkedHashMap<>();
+                    }
+                    collect(context, selection, conditional.computeIfAbsent(typeCondition, type -> new LinkedHashMap<>()), visitedFragments, parent);
+                }
+            }
+        }
+        if (conditional == null) {
+            return new Selections(node, group, unconditional.values(), Collections.emptyList());
+        }
+        List<Collection<FieldGroup>> alternatives = new ArrayList<>(conditional.size());
+        for (Map<String, FieldGroup> groups : conditional.values()) {
+            groups.replaceAll((key, conditionalGroup) -> unconditional.containsKey(key)
+                    ? FieldGroup.merge(conditionalGroup, unconditional.get(key))
+                    : conditionalGroup);
+            alternatives.add(groups.values());
+        }
+        return new Selections(node, group, unconditional.values(), alternatives);
+    }
+
+    private void collect(ExecutionContext context, Selection<?> selection, Map<String, FieldGroup> groups,
+                         Set<String> visitedFragments, GraphQLCompositeType parent) {
+
+        GraphQLSchema schema = context.getGraphQLSchema();
+        if (selection instanceof Field) {
+            Field field = (Field) selection;
+            if (!shouldInclude(context, field.getDirectives())) {
+                return;
+            }
+            GraphQLFieldDefinition fieldDefinition = Introspection.getFieldDef(schema, parent, field.getName());
+            groups.computeIfAbsent(field.getAlias() != null ? field.getAlias() : field.getName(), key -> new FieldGroup(fieldDefinition))
+                    .add(field, fieldDefinition);
+        } else if (selection instanceof InlineFragment) {
+            InlineFragment inlineFragment = (InlineFragment) selection;
+            if (!shouldInclude(context, inlineFragment.getDirectives())) {
+                return;
+            }
+            if (inlineFragment.getTypeCondition() != null) {
+                parent = (GraphQLCompositeType) schema.getType(inlineFragment.getTypeCondition().getName());
+            }
+            for (Selection<?> child : inlineFragment.getSelectionSet().getSelections()) {
+                collect(context, child, groups, visitedFragments, parent);
+            }
+        } else if (selection instanceof FragmentSpread) {
+            FragmentSpread fragmentSpread = (FragmentSpread) selection;
+            if (visitedFragments.contains(fragmentSpread.getName()) || !shouldInclude(context, fragmentSpread.getDirectives())) {
+                return;
+            }
+            visitedFragments.add(fragmentSpread.getName());
+            FragmentDefinition fragmentDefinition = context.getFragment(fragmentSpread.getName());
+            if (!shouldInclude(context, fragmentDefinition.getDirectives())) {
+                return;
+            }
+            if (fragmentDefinition.getTypeCondition() != null) {
+                parent = (GraphQLCompositeType) schema.getType(fragmentDefinition.getTypeCondition().getName());
+            }
+            for (Selection<?> child : fragmentDefinition.getSelectionSet().getSelections()) {
+                collect(context, child, groups, visitedFragments, parent);
+            }
+        }
+    }
+
+    private boolean shouldInclude(ExecutionContext context, List<Directive> directives) {
+        if (directives.isEmpty()) {
+            return true;
+        }
+        ComplexityAnalyzer.collectVariables(directives, scoringVariables);
+        return conditionalNodes.shouldInclude(context.getVariables(), directives);
+    }
+
+    private static String getTypeCondition(ExecutionContext context, Selection<?> selection) {
+        if (selection instanceof InlineFragment && ((InlineFragment) selection).getTypeCondition() != null) {
+            return ((InlineFragment) selection).getTypeCondition().getName();
+        }
+        if (selection instanceof FragmentSpread) {
+            FragmentDefinition fragmentDefinition = context.getFragment(((FragmentSpread) selection).getName());
+            return fragmentDefinition.getTypeCondition() != null ? fragmentDefinition.getTypeCondition().getName() : null;
+        }
+        return null;
+    }
+
+    /**
+     * The fields selected under the same response key, scored together as a single node
+     */
+    private static class FieldGroup {
+
+        private final GraphQLFieldDefinition definition;
+        private final List<Field> fields;
+        private final FieldGroup replaced;
+        private boolean leaf;
+        private int score;
+
+        FieldGroup(GraphQLFieldDefinition definition) {
+            this(definition, new ArrayList<>(1), false, null);
+        }
+
+        private FieldGroup(GraphQLFieldDefinition definition, List<Field> fields, boolean leaf, FieldGroup replaced) {
+            this.definition = definition;
+            this.fields = fields;
+            this.leaf = leaf;
+            this.replaced = replaced;
+        }
+
+        void add(Field field, GraphQLFieldDefinition fieldDefinition) {
+            fields.add(field);
+            leaf |= !(GraphQLUtils.unwrap(fieldDefinition.getType()) instanceof GraphQLFieldsContainer);
+        }
+
+        /**
+         * @return A group of the fields of both, to be scored in place of the unconditional one
+         */
+        static FieldGroup merge(FieldGroup conditional, FieldGroup unconditional) {
+            List<Field> fields = new ArrayList<>(conditional.fields.size() + unconditional.fields.size());
+            fields.addAll(conditional.fields);
+            fields.addAll(unconditional.fields);
+            return new FieldGroup(conditional.definition, fields, conditional.leaf || unconditional.leaf, unconditional);
+        }
+    }
+
+    /**
+     * A frame of the analysis: the sub-selections of a field, split into the unconditional ones and the alternatives,
+     * and the scores accumulated so far. The node and the group are {@code null} for the root frame.
+     */
+    private static class Selections {
+
+        private final ResolvedField node;
+        private final FieldGroup group;
+        private final Collection<FieldGroup> unconditional;
+        private final List<Collection<FieldGroup>> alternatives;
+        private Iterator<FieldGroup> current;
+        private int alternative = -1;
+        private long unconditionalScore;
+        private long alternativeScore;
+        private long maxAlternativeScore;
+
+        Selections(ResolvedField node, FieldGroup group, Collection<FieldGroup> unconditional, List<Collection<FieldGroup>> alternatives) {
+            this.node = node;
+            this.group = group;
+            this.unconditional = unconditional;
+            this.alternatives = alternatives;
+            this.maxAlternativeScore = alternatives.isEmpty() ? 0 : Long.MIN_VALUE;
+        }
+
+        FieldGroup next() {
+            if (current == null) {
+                current = unconditional.iterator();
+            }
+            while (!current.hasNext()) {
+                if (alternative >= 0) {
+                    maxAlternativeScore = Math.max(maxAlternativeScore, alternativeScore);
+                    alternativeScore = 0;
+                }
+                if (++alternative >= alternatives.size()) {
+                    return null;
+                }
+                current = alternatives.get(alternative).iterator();
+            }
+            return current.next();
+        }
+
+        /**
+         * @return The running score, i.e. the score of the unconditional selections plus that of the current alternative so far
+         */
+        long add(FieldGroup group, int score) {
+            group.score = score;
+            if (alternative < 0) {
+                unconditionalScore += score;
+            } else {
+                alternativeScore += group.replaced != null ? score - group.replaced.score : score;
+            }
+            return unconditionalScore + alternativeScore;
+        }
+
+        int getScore() {
+            return (int) (unconditionalScore + maxAlternativeScore);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.leangen.graphql.execution.complexity;
+
+import graphql.execution.ConditionalNodes;
+import graphql.execution.ExecutionContext;
+import graphql.language.Directive;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Enforces the structural {@link OperationLimits} (depth, field, alias and fragment expansion counts)
+ * in a single, breadth-first pass over the AST, driven by a queue instead of recursion. No types are resolved
+ * and nothing is scored, and each selection is visited once per expansion of its enclosing fragment, so the traversal
+ * is cheap enough to precede the complexity analysis, whichever analyzer is used for that.
+ */
+class StructuralLimitsAnalyzer {
+
+    private final ConditionalNodes conditionalNodes;
+    private final OperationLimits limits;
+    private final Set<String> scoringVariables = new HashSet<>();
+    private int fieldCount;
+    private int aliasCount;
+    private int fragmentExpansionCount;
+
+    StructuralLimitsAnalyzer(OperationLimits limits) {
+        this.conditionalNodes = new ConditionalNodes();
+        this.limits = limits;
+    }
+
+    /**
+     * @param context The context of the operation to analyze
+     *
+     * @throws OperationLimitExceededException as soon as any value exceeds its limit
+     */
+    void analyze(ExecutionContext context) {
+        Queue<Scope> queue = new ArrayDeque<>();
+        queue.add(new Scope(context.getOperationDefinition().getSelectionSet(), 0, new HashSet<>()));
+
+        while (!queue.isEmpty()) {
+            Scope current = queue.remove();
+            for (Selection<?> selection : current.selectionSet.getSelections()) {
+                if (selection instanceof Field) {
+                    Field field = (Field) selection;
+                    if (!shouldInclude(context, field.getDirectives())) {
+                        continue;
+                    }
+                    check(OperationLimits.DEPTH, current.depth + 1, limits.getMaximumDepth());
+                    check(OperationLimits.FIELD_COUNT, ++fieldCount, limits.getMaximumFieldCount());
+                    if (field.getAlias() != null) {
+                        check(OperationLimits.ALIAS_COUNT, ++aliasCount, limits.getMaximumAliasCount());
+                    }
+                    if (field.getSelectionSet() != null) {
+                        queue.add(new Scope(field.getSelectionSet(), current.depth + 1, new HashSet<>()));
+                    }
+                } else if (selection instanceof InlineFragment) {
+                    InlineFragment inlineFragment = (InlineFragment) selection;
+                    if (shouldInclude(context, inlineFragment.getDirectives())) {
+                        queue.add(new Scope(inlineFragment.getSelectionSet(), current.depth, current.visitedFragments));
+                    }
+                } else if (selection instanceof FragmentSpread) {
+                    FragmentSpread fragmentSpread = (FragmentSpread) selection;
+                    if (current.visitedFragments.contains(fragmentSpread.getName()) || !shouldInclude(context, fragmentSpread.getDirectives())) {
+                        continue;
+                    }
+                    current.visitedFragments.add(fragmentSpread.getName());
+                    check(OperationLimits.FRAGMENT_EXPANSION_COUNT, ++fragmentExpansionCount, limits.getMaximumFragmentExpansionCount());
+                    FragmentDefinition fragmentDefinition = context.getFragment(fragmentSpread.getName());
+                    if (shouldInclude(context, fragmentDefinition.getDirectives())) {
+                        queue.add(new Scope(fragmentDefinition.getSelectionSet(), current.depth, current.visitedFragments));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The names of the variables whose values were (or could have been) used to decide the inclusion
+     * of the visited selections
+     *
+     * @see ComplexityAnalyzer#getScoringVariables()
+     */
+    Set<String> getScoringVariables() {
+        return scoringVariables;
+    }
+
+    private boolean shouldInclude(ExecutionContext context, List<Directive> directives) {
+        if (directives.isEmpty()) {
+            return true;
+        }
+        ComplexityAnalyzer.collectVariables(directives, scoringVariables);
+        return conditionalNodes.shouldInclude(context.getVariables(), directives);
+    }
+
+    private static void check(String limit, int value, int maximum) {
+        if (value > maximum) {
+            throw new OperationLimitExceededException(limit, value, maximum);
+        }
+    }
+
+    /**
+     * A selection set to visit, and the fragments already expanded into the field owning it
+     */
+    private static class Scope {
+
+        private final SelectionSet selectionSet;
+        private final int depth;
+        private final Set<String> visitedFragments;
+
+        Scope(SelectionSet selectionSet, int depth, Set<String> visitedFragments) {
+            this.selectionSet = selectionSet;
+            this.depth = depth;
+            this.visitedFragments = visitedFragments;
+        }
+    }
+}
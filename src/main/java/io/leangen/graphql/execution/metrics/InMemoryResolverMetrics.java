@@ -0,0 +1,29 @@
+package io.leangen.graphql.execution.metrics;
+
+import io.leangen.graphql.metadata.Resolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the metrics of each resolver in memory, to be read (and e.g. periodically exported) via {@link #getStats()}
+ */
+public class InMemoryResolverMetrics implements ResolverMetrics {
+
+    private final Map<Resolver, InvocationStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public Recorder getRecorder(Resolver resolver) {
+        return stats.computeIfAbsent(resolver, res -> new InvocationStats());
+    }
+
+    /**
+     * @return The metrics of each resolver, keyed by the resolver's underlying method/field
+     */
+    public Map<String, InvocationStats> getStats() {
+        Map<String, InvocationStats> snapshot = new LinkedHashMap<>();
+        stats.forEach((resolver, stat) -> snapshot.put(resolver.toString(), stat));
+        return snapshot;
+    }
+}
@@ -0,0 +1,35 @@
+package io.leangen.graphql.execution.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The invocation count, error count and latency distribution of a single resolver
+ */
+public class InvocationStats implements ResolverMetrics.Recorder {
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    @Override
+    public void record(long latencyNanos, boolean failed) {
+        latencies.record(latencyNanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public long getInvocationCount() {
+        return latencies.getCount();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * @return The latencies of all invocations, including the failed ones
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+}
@@ -0,0 +1,65 @@
+package io.leangen.graphql.execution.metrics;
+
+import graphql.execution.DataFetcherResult;
+import io.leangen.graphql.execution.InvocationContext;
+import io.leangen.graphql.execution.ResolverInterceptor;
+import io.leangen.graphql.execution.ResolverInterceptorFactory;
+import io.leangen.graphql.execution.ResolverInterceptorFactoryParams;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Measures each resolver invocation and reports it to the configured {@link ResolverMetrics}.
+ * <p>The latency of an invocation returning a {@link CompletionStage} is measured until the stage completes.
+ * Invocations throwing an exception, completing exceptionally, or resolving to a {@link DataFetcherResult}
+ * with errors are counted as failed. The interceptor is applied before (around) all other interceptors,
+ * so the measurements include e.g. the time waiting on a deadline.</p>
+ * <p>The overhead per invocation amounts to two {@link System#nanoTime()} calls and a few uncontended atomic increments.</p>
+ */
+public class MetricsInterceptorFactory implements ResolverInterceptorFactory {
+
+    private final ResolverMetrics metrics;
+
+    public MetricsInterceptorFactory(ResolverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<ResolverInterceptor> getInterceptors(ResolverInterceptorFactoryParams params) {
+        ResolverMetrics.Recorder recorder = metrics.getRecorder(params.getResolver());
+        return recorder == null ? Collections.emptyList() : Collections.singletonList(new MetricsInterceptor(recorder));
+    }
+
+    private static class MetricsInterceptor implements ResolverInterceptor {
+
+        private final ResolverMetrics.Recorder recorder;
+
+        MetricsInterceptor(ResolverMetrics.Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object aroundInvoke(InvocationContext context, Continuation continuation) throws Exception {
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = continuation.proceed(context);
+            } catch (Exception e) {
+                recorder.record(System.nanoTime() - start, true);
+                throw e;
+            }
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete((res, error) -> recorder.record(System.nanoTime() - start, error != null || isFailed(res)));
+            } else {
+                recorder.record(System.nanoTime() - start, isFailed(result));
+            }
+            return result;
+        }
+
+        private static boolean isFailed(Object result) {
+            return result instanceof DataFetcherResult && ((DataFetcherResult<?>) result).hasErrors();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.leangen.graphql.execution.metrics;
+
+import io.leangen.graphql.metadata.Resolver;
+
+/**
+ * The SPI for collecting per-resolver invocation metrics, e.g. for exporting them to an external metrics library.
+ * <p>A {@link Recorder} is obtained once per resolver while the schema is being generated,
+ * so that no lookup is needed on the hot path. Recorders are invoked concurrently and must be thread-safe.
+ * See {@link InMemoryResolverMetrics} for the built-in implementation.</p>
+ */
+public interface ResolverMetrics {
+
+    /**
+     * @param resolver The resolver whose invocations are to be recorded
+     *
+     * @return The recorder for the given resolver's invocations, or {@code null} if the resolver is not to be measured
+     */
+    Recorder getRecorder(Resolver resolver);
+
+    @FunctionalInterface
+    interface Recorder {
+
+        /**
+         * Records a single completed invocation
+         *
+         * @param latencyNanos The time from the invocation until the result (or the future of it) completed, in nanoseconds
+         * @param failed Whether the invocation failed, either by throwing or by returning errors
+         */
+        void record(long latencyNanos, boolean failed);
+    }
+}
@@ -6,6 +6,7 @@ import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphqlTypeComparatorRegistry;
 import graphql.schema.TypeResolver;
+import io.leangen.graphql.execution.BulkheadRegistry;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.execution.ResolverInterceptorFactory;
 import io.leangen.graphql.generator.mapping.SchemaTransformerRegistry;
@@ -26,6 +27,7 @@ import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
 import io.leangen.graphql.util.ClassFinder;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.GraphQLUtils;
+import org.dataloader.DataLoaderOptions;
 
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
@@ -34,8 +36,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -69,6 +73,9 @@ public class BuildContext {
     public final List<Consumer<BuildContext>> postBuildHooks;
     public final List<AnnotatedType> additionalDirectives;
     public final GraphQLCodeRegistry.Builder codeRegistry;
+    public final Supplier<DataLoaderOptions> dataLoaderOptions;
+    public final Executor asyncExecutor;
+    public final BulkheadRegistry bulkheads;
 
     final Validator validator;
 
@@ -90,6 +97,11 @@ public class BuildContext {
      * @param directiveBuilder The factory used to create directives where applicable
      * @param relayMappingConfig Relay specific configuration
      * @param knownTypes The cache of known type names
+     * @param dataLoaderOptions The options for the loaders of operations marked with {@link io.leangen.graphql.annotations.GraphQLBatched},
+     *                          or {@code null} to use the defaults
+     * @param asyncExecutor The executor running the resolvers marked with {@link io.leangen.graphql.annotations.GraphQLAsync},
+     *                      or {@code null} to use the common fork-join pool
+     * @param bulkheads The registry providing the bulkheads limiting the concurrent invocations of each resolver
      */
     public BuildContext(String[] basePackages, GlobalEnvironment environment, OperationRegistry operationRegistry,
                         TypeMapperRegistry typeMappers, SchemaTransformerRegistry transformers, ValueMapperFactory valueMapperFactory,
@@ -98,7 +110,8 @@ public class BuildContext {
                         InputFieldBuilder inputFieldBuilder, ResolverInterceptorFactory interceptorFactory,
                         DirectiveBuilder directiveBuilder, InclusionStrategy inclusionStrategy, RelayMappingConfig relayMappingConfig,
                         Collection<GraphQLNamedType> knownTypes, List<AnnotatedType> additionalDirectives, Comparator<AnnotatedType> typeComparator,
-                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry) {
+                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry,
+                        Supplier<DataLoaderOptions> dataLoaderOptions, Executor asyncExecutor, BulkheadRegistry bulkheads) {
         this.operationRegistry = operationRegistry;
         this.typeRegistry = environment.typeRegistry;
         this.transformers = transformers;
@@ -129,6 +142,9 @@ public class BuildContext {
         this.classFinder = new ClassFinder();
         this.validator = new Validator(environment, typeMappers, knownTypes, typeComparator);
         this.codeRegistry = codeRegistry;
+        this.dataLoaderOptions = dataLoaderOptions;
+        this.asyncExecutor = asyncExecutor;
+        this.bulkheads = bulkheads;
         this.postBuildHooks = new ArrayList<>(Collections.singletonList(context -> classFinder.close()));
     }
 
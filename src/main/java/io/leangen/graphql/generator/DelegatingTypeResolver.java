@@ -7,6 +7,8 @@ import graphql.schema.GraphQLType;
 import graphql.schema.TypeResolver;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLTypeResolver;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.TypeResolutionEvent;
 import io.leangen.graphql.metadata.exceptions.UnresolvableTypeException;
 import io.leangen.graphql.metadata.messages.MessageBundle;
 import io.leangen.graphql.metadata.strategy.type.TypeInfoGenerator;
@@ -38,6 +40,22 @@ public class DelegatingTypeResolver implements TypeResolver {
 
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment env) {
+        if (FlightRecorderEvents.SUPPORTED) {
+            TypeResolutionEvent event = TypeResolutionEvent.start(((GraphQLNamedType) env.getFieldType()).getName(), env.getObject().getClass());
+            if (event != null) {
+                GraphQLObjectType resolved = null;
+                try {
+                    resolved = findType(env);
+                    return resolved;
+                } finally {
+                    event.complete(resolved != null ? resolved.getName() : null);
+                }
+            }
+        }
+        return findType(env);
+    }
+
+    private GraphQLObjectType findType(TypeResolutionEnvironment env) {
         Object result = env.getObject();
         Class<?> resultType = result.getClass();
         String resultTypeName = typeInfoGenerator.generateTypeName(GenericTypeReflector.annotate(resultType), messageBundle);
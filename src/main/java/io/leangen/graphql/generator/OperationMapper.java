@@ -21,6 +21,8 @@ import graphql.schema.GraphQLUnionType;
 import graphql.schema.PropertyDataFetcher;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.execution.BatchLoaderFetcher;
+import io.leangen.graphql.execution.DirectResolverFetcher;
 import io.leangen.graphql.execution.OperationExecutor;
 import io.leangen.graphql.generator.mapping.TypeMapper;
 import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
@@ -38,6 +40,7 @@ import io.leangen.graphql.util.ContextUtils;
 import io.leangen.graphql.util.Directives;
 import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
+import org.dataloader.DataLoaderOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -253,6 +256,8 @@ public class OperationMapper {
      */
     public GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         env.addType(javaType);
+        //Memoize the applicable input converter before any input gets deserialized
+        env.buildContext.globalEnvironment.converters.getInputConverter(javaType);
         GraphQLInputType type = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLInputType(javaType, mappersToSkip, env);
         log(env.buildContext.validator.checkUniqueness(type, env.rootElement, javaType));
         return type;
@@ -379,7 +384,10 @@ public class OperationMapper {
 
     /**
      * Creates a generic resolver for the given operation.
-     * @implSpec This resolver simply invokes {@link OperationExecutor#execute(DataFetchingEnvironment)}
+     * @implSpec This resolver simply invokes {@link OperationExecutor#execute(DataFetchingEnvironment)},
+     * except for trivial operations (see {@link DirectResolverFetcher}) that are resolved by invoking the underlying
+     * method/field directly, and batched operations that are resolved through a {@link BatchLoaderFetcher}
+     * when marked with {@link io.leangen.graphql.annotations.GraphQLBatched}
      *
      * @param operation The operation for which the resolver is being created
      * @param buildContext The shared context containing all the global information needed for mapping
@@ -394,9 +402,17 @@ public class OperationMapper {
         ValueMapper valueMapper = buildContext.createValueMapper(inputTypes);
 
         if (operation.isBatched()) {
-            return (BatchedDataFetcher) environment -> new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory).execute(environment);
+            if (BatchLoaderFetcher.supports(operation)) {
+                return new BatchLoaderFetcher(operation, new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory, buildContext.asyncExecutor, buildContext.bulkheads),
+                        buildContext.dataLoaderOptions != null ? buildContext.dataLoaderOptions : DataLoaderOptions::newOptions);
+            }
+            return (BatchedDataFetcher) environment -> new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory, buildContext.asyncExecutor, buildContext.bulkheads).execute(environment);
+        }
+        DirectResolverFetcher directFetcher = DirectResolverFetcher.forOperation(operation, buildContext.globalEnvironment, buildContext.interceptorFactory, buildContext.bulkheads);
+        if (directFetcher != null) {
+            return directFetcher;
         }
-        return new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory)::execute;
+        return new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory, buildContext.asyncExecutor, buildContext.bulkheads)::execute;
     }
 
     /**
@@ -1,5 +1,8 @@
 package io.leangen.graphql.generator.mapping;
 
+import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.metadata.OperationArgument;
+
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Parameter;
 
@@ -10,5 +13,21 @@ public interface ArgumentInjector {
     
     Object getArgumentValue(ArgumentInjectorParams params);
 
+    /**
+     * Same as {@link #getArgumentValue(ArgumentInjectorParams)}, but receives the individual values instead of
+     * an {@link ArgumentInjectorParams} instance. Injectors that do not need the params object can override this
+     * method to avoid allocating it on each invocation, in which case both variants must remain consistent.
+     *
+     * @param input The raw input value provided by the client
+     * @param present Whether the argument was explicitly provided by the client
+     * @param argument The argument whose value is being injected
+     * @param resolutionEnvironment The environment of the current resolution
+     *
+     * @return The value to inject
+     */
+    default Object getArgumentValue(Object input, boolean present, OperationArgument argument, ResolutionEnvironment resolutionEnvironment) {
+        return getArgumentValue(new ArgumentInjectorParams(input, present, argument, resolutionEnvironment));
+    }
+
     boolean supports(AnnotatedType type, Parameter parameter);
 }
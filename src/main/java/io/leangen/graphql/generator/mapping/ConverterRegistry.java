@@ -1,5 +1,6 @@
 package io.leangen.graphql.generator.mapping;
 
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.metadata.TypedElement;
 import io.leangen.graphql.util.ClassUtils;
 
@@ -9,7 +10,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Bojan Tomic (kaqqao)
@@ -19,19 +23,44 @@ public class ConverterRegistry {
 
     private final List<InputConverter> inputConverters;
     private final List<OutputConverter> outputConverters;
+    private final Map<TypeKey, Optional<InputConverter>> inputConverterCache;
 
     public ConverterRegistry(List<InputConverter> inputConverters, List<OutputConverter> outputConverters) {
-        this.inputConverters = Collections.unmodifiableList(inputConverters);
+        this(Collections.unmodifiableList(inputConverters), outputConverters, new ConcurrentHashMap<>());
+    }
+
+    private ConverterRegistry(List<InputConverter> inputConverters, List<OutputConverter> outputConverters,
+                              Map<TypeKey, Optional<InputConverter>> inputConverterCache) {
+        this.inputConverters = inputConverters;
         this.outputConverters = Collections.unmodifiableList(outputConverters);
+        this.inputConverterCache = inputConverterCache;
     }
 
     public List<InputConverter> getInputConverters() {
         return inputConverters;
     }
 
+    /**
+     * Finds the first registered input converter supporting the given type. As input converters are looked up
+     * for each (nested) input value, the result of the lookup, including the absence of an applicable converter,
+     * is memoized per type.
+     *
+     * @param inputType The type to find the input converter for
+     * @param <T> The Java type the converter produces
+     * @param <S> The substitute type the converter consumes
+     *
+     * @return The applicable input converter, or {@code null} if none supports the given type
+     */
     @SuppressWarnings("unchecked")
     public <T, S> InputConverter<T, S> getInputConverter(AnnotatedType inputType) {
-        return (InputConverter<T, S>) inputConverters.stream().filter(conv -> conv.supports(inputType)).findFirst().orElse(null);
+        TypeKey key = new TypeKey(inputType);
+        Optional<InputConverter> converter = inputConverterCache.get(key);
+        if (converter == null) {
+            //Not using computeIfAbsent as supports might recursively look up converters for nested types
+            converter = inputConverters.stream().filter(conv -> conv.supports(inputType)).findFirst();
+            inputConverterCache.putIfAbsent(key, converter);
+        }
+        return (InputConverter<T, S>) converter.orElse(null);
     }
 
     @SuppressWarnings("unchecked")
@@ -56,11 +85,11 @@ public class ConverterRegistry {
         elements.forEach(element -> collectConverters(element, element.getJavaType(), filtered));
         if (filtered.stream().allMatch(converter -> converter instanceof DelegatingOutputConverter
                 && ((DelegatingOutputConverter) converter).isTransparent())) {
-            return new ConverterRegistry(this.getInputConverters(), Collections.emptyList());
+            return new ConverterRegistry(this.getInputConverters(), Collections.emptyList(), inputConverterCache);
         }
         return filtered.size() == this.getOutputConverters().size()
                 ? this
-                : new ConverterRegistry(this.getInputConverters(), new ArrayList<>(filtered));
+                : new ConverterRegistry(this.getInputConverters(), new ArrayList<>(filtered), inputConverterCache);
     }
 
     private void collectConverters(AnnotatedElement element, AnnotatedType type, Set<OutputConverter> filtered) {
@@ -73,4 +102,29 @@ public class ConverterRegistry {
             }
         }
     }
+
+    /**
+     * Compares types structurally, including annotations, as {@link AnnotatedType} implementations
+     * are not required to implement {@code equals}/{@code hashCode}
+     */
+    private static class TypeKey {
+
+        private final AnnotatedType type;
+        private final int hash;
+
+        TypeKey(AnnotatedType type) {
+            this.type = type;
+            this.hash = GenericTypeReflector.hashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof TypeKey && GenericTypeReflector.equals(type, ((TypeKey) other).type));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package io.leangen.graphql.generator.mapping.common;
 
 import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Parameter;
@@ -10,12 +13,24 @@ import java.lang.reflect.Parameter;
  * @author Bojan Tomic (kaqqao)
  */
 public class ContextInjector extends InputValueDeserializer {
+
+    //Subclasses overriding only the params variant must not be bypassed
+    private final boolean paramsVariantOverridden = ClassUtils.isOverridden(
+            getClass(), ContextInjector.class, "getArgumentValue", ArgumentInjectorParams.class);
     
     @Override
     public Object getArgumentValue(ArgumentInjectorParams params) {
         return params.getInput() == null ? params.getResolutionEnvironment().context : super.getArgumentValue(params);
     }
 
+    @Override
+    public Object getArgumentValue(Object input, boolean present, OperationArgument argument, ResolutionEnvironment resolutionEnvironment) {
+        if (paramsVariantOverridden) {
+            return getArgumentValue(new ArgumentInjectorParams(input, present, argument, resolutionEnvironment));
+        }
+        return input == null ? resolutionEnvironment.context : super.getArgumentValue(input, present, argument, resolutionEnvironment);
+    }
+
     @Override
     public boolean supports(AnnotatedType type, Parameter parameter) {
         return parameter != null && parameter.isAnnotationPresent(GraphQLContext.class);
@@ -5,6 +5,7 @@ import graphql.schema.SelectedField;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import io.leangen.graphql.annotations.GraphQLEnvironment;
+import io.leangen.graphql.execution.FieldProjection;
 import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
@@ -30,6 +31,9 @@ public class EnvironmentInjector implements ArgumentInjector {
             return params.getResolutionEnvironment().dataFetchingEnvironment.getSelectionSet().getImmediateFields()
                     .stream().map(SelectedField::getName).collect(Collectors.toSet());
         }
+        if (FieldProjection.class.equals(raw)) {
+            return FieldProjection.of(params.getResolutionEnvironment().dataFetchingEnvironment);
+        }
         if (MergedField.class.equals(raw)) {
             return params.getResolutionEnvironment().dataFetchingEnvironment.getMergedField();
         }
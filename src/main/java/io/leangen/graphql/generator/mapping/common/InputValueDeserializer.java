@@ -2,6 +2,8 @@ package io.leangen.graphql.generator.mapping.common;
 
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.InputDeserializationEvent;
 import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedType;
@@ -29,6 +31,16 @@ public class InputValueDeserializer implements ArgumentInjector {
             }
             return null;
         }
+        if (FlightRecorderEvents.SUPPORTED) {
+            InputDeserializationEvent event = InputDeserializationEvent.start(params.getType());
+            if (event != null) {
+                try {
+                    return params.getResolutionEnvironment().valueMapper.fromInput(params.getInput(), params.getType());
+                } finally {
+                    event.complete();
+                }
+            }
+        }
         return params.getResolutionEnvironment().valueMapper.fromInput(params.getInput(), params.getType());
     }
 
@@ -4,6 +4,7 @@ import io.leangen.graphql.annotations.GraphQLRootContext;
 import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.metadata.OperationArgument;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.ContextUtils;
 
@@ -15,11 +16,26 @@ import java.util.Map;
  * @author Bojan Tomic (kaqqao)
  */
 public class RootContextInjector implements ArgumentInjector {
+
+    //Subclasses overriding only the params variant must not be bypassed
+    private final boolean paramsVariantOverridden = ClassUtils.isOverridden(
+            getClass(), RootContextInjector.class, "getArgumentValue", ArgumentInjectorParams.class);
     
     @Override
     public Object getArgumentValue(ArgumentInjectorParams params) {
-        String injectionExpression = params.getParameter().getAnnotation(GraphQLRootContext.class).value();
-        ResolutionEnvironment env = params.getResolutionEnvironment();
+        return inject(params.getArgument(), params.getResolutionEnvironment());
+    }
+
+    @Override
+    public Object getArgumentValue(Object input, boolean present, OperationArgument argument, ResolutionEnvironment env) {
+        if (paramsVariantOverridden) {
+            return getArgumentValue(new ArgumentInjectorParams(input, present, argument, env));
+        }
+        return inject(argument, env);
+    }
+
+    private Object inject(OperationArgument argument, ResolutionEnvironment env) {
+        String injectionExpression = argument.getParameter().getAnnotation(GraphQLRootContext.class).value();
         Object rootContext = ContextUtils.unwrapContext(env.rootContext);
         return injectionExpression.isEmpty() ? rootContext : extract(rootContext, injectionExpression);
     }
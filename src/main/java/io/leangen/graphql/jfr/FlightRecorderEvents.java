@@ -0,0 +1,33 @@
+package io.leangen.graphql.jfr;
+
+/**
+ * Gates the emission of the Java Flight Recorder events defined in this package.
+ * <p>The events let GraphQL work (resolver invocations, input deserialization, output conversion, type resolution
+ * and schema generation) be correlated with GC, I/O and other JVM activity in the same recording.
+ * All of them are disabled by default and have to be enabled in the recording settings,
+ * e.g. {@code jcmd <pid> JFR.start settings=graphql.jfc} with {@code <event name="io.leangen.graphql.ResolverInvocation">
+ * <setting name="enabled">true</setting></event>}. Each event class checks the enabled state of its (cached)
+ * {@link jdk.jfr.EventType} before instantiating anything, so a disabled event costs a single volatile read,
+ * and allocates nothing.</p>
+ * <p>The events require the {@code jdk.jfr} API (available from JDK 8u262 and 11 onward). On JVMs without it,
+ * no event class is ever loaded and all instrumentation points are skipped.</p>
+ */
+public final class FlightRecorderEvents {
+
+    /**
+     * Whether the running JVM provides the {@code jdk.jfr} API. Checked before touching any event class.
+     */
+    public static final boolean SUPPORTED = isSupported();
+
+    private FlightRecorderEvents() {
+    }
+
+    private static boolean isSupported() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
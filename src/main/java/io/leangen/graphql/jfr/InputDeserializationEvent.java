@@ -0,0 +1,48 @@
+package io.leangen.graphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.AnnotatedType;
+
+/**
+ * Covers the deserialization of a single argument value by the {@link io.leangen.graphql.metadata.strategy.value.ValueMapper}
+ */
+@Name("io.leangen.graphql.InputDeserialization")
+@Label("Input Deserialization")
+@Category("GraphQL")
+@Description("Deserialization of a GraphQL argument value into its Java type")
+@Enabled(false)
+@StackTrace(false)
+public class InputDeserializationEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(InputDeserializationEvent.class);
+
+    @Label("Java Type")
+    String javaType;
+
+    /**
+     * @param type The Java type being deserialized into
+     *
+     * @return The started event, or {@code null} if the event is disabled
+     */
+    public static InputDeserializationEvent start(AnnotatedType type) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        InputDeserializationEvent event = new InputDeserializationEvent();
+        event.javaType = type.getType().getTypeName();
+        event.begin();
+        return event;
+    }
+
+    public void complete() {
+        end();
+        commit();
+    }
+}
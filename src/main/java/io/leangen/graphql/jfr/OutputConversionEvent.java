@@ -0,0 +1,54 @@
+package io.leangen.graphql.jfr;
+
+import io.leangen.graphql.generator.mapping.OutputConverter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.AnnotatedType;
+
+/**
+ * Covers the conversion of a single resolver result by an {@link OutputConverter}
+ */
+@Name("io.leangen.graphql.OutputConversion")
+@Label("Output Conversion")
+@Category("GraphQL")
+@Description("Conversion of a resolver result by an output converter")
+@Enabled(false)
+@StackTrace(false)
+public class OutputConversionEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(OutputConversionEvent.class);
+
+    @Label("Java Type")
+    String javaType;
+
+    @Label("Converter")
+    Class<?> converter;
+
+    /**
+     * @param type The Java type of the converted result
+     * @param converter The converter in use
+     *
+     * @return The started event, or {@code null} if the event is disabled
+     */
+    public static OutputConversionEvent start(AnnotatedType type, OutputConverter<?, ?> converter) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        OutputConversionEvent event = new OutputConversionEvent();
+        event.javaType = type.getType().getTypeName();
+        event.converter = converter.getClass();
+        event.begin();
+        return event;
+    }
+
+    public void complete() {
+        end();
+        commit();
+    }
+}
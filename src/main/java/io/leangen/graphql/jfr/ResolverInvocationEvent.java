@@ -0,0 +1,87 @@
+package io.leangen.graphql.jfr;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLNamedType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Covers a single resolver invocation. For invocations returning a {@link CompletionStage}, the event lasts
+ * until the stage completes, and is committed by the thread completing it.
+ */
+@Name("io.leangen.graphql.ResolverInvocation")
+@Label("Resolver Invocation")
+@Category("GraphQL")
+@Description("Invocation of a GraphQL resolver, until its result (or the future of it) completes")
+@Enabled(false)
+@StackTrace(false)
+public class ResolverInvocationEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(ResolverInvocationEvent.class);
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Parent Type")
+    String parentType;
+
+    @Label("Async")
+    @Description("Whether the resolver returned a future")
+    boolean async;
+
+    /**
+     * @param operationName The name of the invoked operation
+     * @param env The environment of the invocation
+     *
+     * @return The started event, or {@code null} if the event is disabled
+     */
+    public static ResolverInvocationEvent start(String operationName, DataFetchingEnvironment env) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ResolverInvocationEvent event = new ResolverInvocationEvent();
+        event.operation = operationName;
+        event.parentType = env.getParentType() instanceof GraphQLNamedType ? ((GraphQLNamedType) env.getParentType()).getName() : null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Runs the invocation and commits the event once it completes
+     *
+     * @param invocation The resolver invocation
+     *
+     * @return The result of the invocation
+     *
+     * @throws Exception If the invocation throws
+     */
+    public Object record(Callable<Object> invocation) throws Exception {
+        Object result;
+        try {
+            result = invocation.call();
+        } catch (Exception e) {
+            complete();
+            throw e;
+        }
+        if (result instanceof CompletionStage) {
+            async = true;
+            ((CompletionStage<?>) result).whenComplete((res, error) -> complete());
+        } else {
+            complete();
+        }
+        return result;
+    }
+
+    private void complete() {
+        end();
+        commit();
+    }
+}
@@ -0,0 +1,41 @@
+package io.leangen.graphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Covers a single phase of {@link io.leangen.graphql.GraphQLSchemaGenerator#generate()}
+ *
+ * @see SchemaGenerationPhases
+ */
+@Name("io.leangen.graphql.SchemaGenerationPhase")
+@Label("Schema Generation Phase")
+@Category("GraphQL")
+@Description("A phase of GraphQL schema generation")
+@Enabled(false)
+public class SchemaGenerationPhaseEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(SchemaGenerationPhaseEvent.class);
+
+    @Label("Phase")
+    String phase;
+
+    static SchemaGenerationPhaseEvent start(String phase) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        SchemaGenerationPhaseEvent event = new SchemaGenerationPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    void complete() {
+        end();
+        commit();
+    }
+}
@@ -0,0 +1,32 @@
+package io.leangen.graphql.jfr;
+
+/**
+ * Emits a {@link SchemaGenerationPhaseEvent} for each consecutive phase of schema generation.
+ * Safe to use on JVMs without the {@code jdk.jfr} API, where it does nothing.
+ */
+public class SchemaGenerationPhases {
+
+    private SchemaGenerationPhaseEvent current;
+
+    /**
+     * Ends the current phase, if any, and begins the next one
+     *
+     * @param phase The name of the phase to begin
+     */
+    public void begin(String phase) {
+        end();
+        if (FlightRecorderEvents.SUPPORTED) {
+            current = SchemaGenerationPhaseEvent.start(phase);
+        }
+    }
+
+    /**
+     * Ends the current phase, if any
+     */
+    public void end() {
+        if (current != null) {
+            current.complete();
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.leangen.graphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Covers the resolution of the concrete object type of a single interface or union value
+ */
+@Name("io.leangen.graphql.TypeResolution")
+@Label("Type Resolution")
+@Category("GraphQL")
+@Description("Resolution of the concrete GraphQL object type of an interface or union value")
+@Enabled(false)
+@StackTrace(false)
+public class TypeResolutionEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(TypeResolutionEvent.class);
+
+    @Label("Abstract Type")
+    String abstractType;
+
+    @Label("Java Type")
+    Class<?> javaType;
+
+    @Label("Resolved Type")
+    String resolvedType;
+
+    /**
+     * @param abstractType The name of the interface or union
+     * @param javaType The class of the value being resolved
+     *
+     * @return The started event, or {@code null} if the event is disabled
+     */
+    public static TypeResolutionEvent start(String abstractType, Class<?> javaType) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TypeResolutionEvent event = new TypeResolutionEvent();
+        event.abstractType = abstractType;
+        event.javaType = javaType;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param resolvedType The name of the resolved object type, or {@code null} if resolution failed
+     */
+    public void complete(String resolvedType) {
+        end();
+        this.resolvedType = resolvedType;
+        commit();
+    }
+}
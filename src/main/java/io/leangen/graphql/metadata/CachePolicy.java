@@ -0,0 +1,48 @@
+package io.leangen.graphql.metadata;
+
+import io.leangen.graphql.annotations.GraphQLCacheable;
+
+/**
+ * Describes how the results of a {@link Resolver} are to be cached across requests
+ */
+public class CachePolicy {
+
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final long offHeapCapacity;
+
+    public CachePolicy(long ttlNanos, long maxWeight) {
+        this(ttlNanos, maxWeight, 0);
+    }
+
+    public CachePolicy(long ttlNanos, long maxWeight, long offHeapCapacity) {
+        if (ttlNanos <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache TTL and maximum weight must both be positive");
+        }
+        if (offHeapCapacity < 0) {
+            throw new IllegalArgumentException("Off-heap cache capacity must not be negative");
+        }
+        this.ttlNanos = ttlNanos;
+        this.maxWeight = maxWeight;
+        this.offHeapCapacity = offHeapCapacity;
+    }
+
+    public static CachePolicy from(GraphQLCacheable cacheable) {
+        return new CachePolicy(cacheable.timeUnit().toNanos(cacheable.ttl()), cacheable.maxWeight(), cacheable.offHeapCapacity());
+    }
+
+    public long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return The maximum number of bytes of serialized results kept off-heap, or 0 if there's no off-heap tier
+     */
+    public long getOffHeapCapacity() {
+        return offHeapCapacity;
+    }
+}
@@ -25,6 +25,9 @@ public class Operation {
     private final TypedElement typedElement;
     private final Type contextType;
     private final Map<String, Resolver> resolversByFingerprint;
+    private final Map<String, Long> argumentBits;
+    private final long[] resolverMasks;
+    private final Resolver[] resolvers;
     private final List<OperationArgument> arguments;
     private final OperationDefinition.Operation operationType;
     private final boolean batched;
@@ -44,6 +47,9 @@ public class Operation {
                 .distinct().collect(Collectors.toList()));
         this.contextType = contextType;
         this.resolversByFingerprint = collectResolversByFingerprint(resolvers);
+        this.argumentBits = assignArgumentBits(resolversByFingerprint.values());
+        this.resolvers = resolversByFingerprint.values().toArray(new Resolver[0]);
+        this.resolverMasks = Arrays.stream(this.resolvers).mapToLong(this::getMask).toArray();
         this.arguments = arguments;
         this.operationType = operationType;
         this.batched = batched;
@@ -59,16 +65,61 @@ public class Operation {
         return resolversByFingerprint;
     }
 
+    /**
+     * Assigns a bit to each distinct mappable argument name, so that the set of arguments a resolver accepts
+     * (and the set of arguments provided to an operation) can be represented as a single {@code long}.
+     * If there are more distinct names than bits, no assignment is made and dispatch falls back to fingerprints.
+     */
+    private static Map<String, Long> assignArgumentBits(Collection<Resolver> resolvers) {
+        Map<String, Long> bits = new HashMap<>();
+        resolvers.stream()
+                .flatMap(resolver -> resolver.getArguments().stream())
+                .filter(OperationArgument::isMappable)
+                .map(OperationArgument::getName)
+                .forEach(argName -> bits.putIfAbsent(argName, 1L << bits.size()));
+        return bits.size() > Long.SIZE ? null : bits;
+    }
+
+    private long getMask(Resolver resolver) {
+        if (argumentBits == null) {
+            return 0;
+        }
+        return resolver.getArguments().stream()
+                .filter(OperationArgument::isMappable)
+                .mapToLong(arg -> argumentBits.get(arg.getName()))
+                .reduce(0L, (a, b) -> a | b);
+    }
+
     public Resolver getApplicableResolver(Set<String> argumentNames) {
-        if (resolversByFingerprint.size() == 1) {
-            return getResolvers().iterator().next();
+        if (resolvers.length == 1) {
+            return resolvers[0];
         } else {
-            return resolversByFingerprint.get(getFingerprint(argumentNames));
+            return findResolver(argumentNames);
         }
     }
 
     public Resolver getResolver(String... argumentNames) {
-        return resolversByFingerprint.get(getFingerprint(new HashSet<>(Arrays.asList(argumentNames))));
+        return findResolver(new HashSet<>(Arrays.asList(argumentNames)));
+    }
+
+    private Resolver findResolver(Set<String> argumentNames) {
+        if (argumentBits == null) {
+            return resolversByFingerprint.get(getFingerprint(argumentNames));
+        }
+        long mask = 0;
+        for (String argumentName : argumentNames) {
+            Long bit = argumentBits.get(argumentName);
+            if (bit == null) {
+                return null; //no resolver accepts this argument
+            }
+            mask |= bit;
+        }
+        for (int i = 0; i < resolverMasks.length; i++) {
+            if (resolverMasks[i] == mask) {
+                return resolvers[i];
+            }
+        }
+        return null;
     }
 
     public boolean isEmbeddableForType(Type type) {
@@ -1,6 +1,8 @@
 package io.leangen.graphql.metadata;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.annotations.GraphQLComplexity;
+import io.leangen.graphql.execution.complexity.ComplexityExpression;
 import io.leangen.graphql.metadata.exceptions.MappingException;
 import io.leangen.graphql.metadata.execution.Executable;
 import io.leangen.graphql.util.ClassUtils;
@@ -33,11 +35,20 @@ public class Resolver {
     private final Class<?> rawReturnType;
     private final Set<OperationArgument> contextArguments;
     private final String complexityExpression;
+    private final ComplexityExpression compiledComplexityExpression;
+    private final boolean complexityVariableIndependent;
+    private final CachePolicy cachePolicy;
     private final Executable<?> executable;
     private final boolean batched;
 
     public Resolver(String operationName, String operationDescription, String operationDeprecationReason, boolean batched,
                     Executable<?> executable, TypedElement typedElement, List<OperationArgument> arguments, String complexityExpression) {
+        this(operationName, operationDescription, operationDeprecationReason, batched, executable, typedElement, arguments, complexityExpression, null);
+    }
+
+    public Resolver(String operationName, String operationDescription, String operationDeprecationReason, boolean batched,
+                    Executable<?> executable, TypedElement typedElement, List<OperationArgument> arguments, String complexityExpression,
+                    CachePolicy cachePolicy) {
 
         Set<OperationArgument> contextArguments = resolveContexts(arguments);
         
@@ -53,6 +64,10 @@ public class Resolver {
         this.rawReturnType = ClassUtils.getRawType(typedElement.getJavaType().getType());
         this.contextArguments = contextArguments;
         this.complexityExpression = complexityExpression;
+        this.compiledComplexityExpression = Utils.isEmpty(complexityExpression) ? null : ComplexityExpression.compile(complexityExpression);
+        this.complexityVariableIndependent = typedElement.isAnnotationPresent(GraphQLComplexity.class)
+                && typedElement.getAnnotation(GraphQLComplexity.class).variableIndependent();
+        this.cachePolicy = cachePolicy;
         this.executable = executable;
         this.batched = batched;
     }
@@ -165,6 +180,28 @@ public class Resolver {
         return complexityExpression;
     }
 
+    /**
+     * @return The complexity expression, compiled by the built-in expression language, or {@code null} if there is none
+     */
+    public ComplexityExpression getCompiledComplexityExpression() {
+        return compiledComplexityExpression;
+    }
+
+    /**
+     * @return Whether the complexity score was declared independent of the operation variables
+     * (see {@link GraphQLComplexity#variableIndependent()})
+     */
+    public boolean isComplexityVariableIndependent() {
+        return complexityVariableIndependent;
+    }
+
+    /**
+     * @return The policy for caching the results of this resolver across requests, or {@code null} if they are not to be cached
+     */
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
+    }
+
     public Executable<?> getExecutable() {
         return executable;
     }
@@ -0,0 +1,47 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link FieldAccessor} that reads the underlying field through a getter {@link MethodHandle}
+ * resolved once, when the accessor is created, instead of going through {@link Field#get(Object)} on each call.
+ */
+public class FieldHandleAccessor extends FieldAccessor {
+
+    private final MethodHandle getter;
+
+    /**
+     * @param field The field to read
+     * @param enclosingType The type declaring {@code field}
+     *
+     * @throws IllegalAccessException If the field is not accessible and thus can not be turned into a handle
+     */
+    public FieldHandleAccessor(Field field, AnnotatedType enclosingType) throws IllegalAccessException {
+        super(field, enclosingType);
+        this.getter = toHandle(field);
+    }
+
+    @Override
+    public Object execute(Object target, Object[] args) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e); //never happens, getters don't throw checked exceptions
+        }
+    }
+
+    private static MethodHandle toHandle(Field field) throws IllegalAccessException {
+        MethodHandle getter = MethodHandles.publicLookup().unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return MethodHandles.dropArguments(getter.asType(MethodType.genericMethodType(0)), 0, Object.class);
+        }
+        return getter.asType(MethodType.genericMethodType(1));
+    }
+}
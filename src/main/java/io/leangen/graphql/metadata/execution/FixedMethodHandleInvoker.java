@@ -0,0 +1,24 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MethodHandleInvoker} always invoking the underlying method on the instance obtained from the given supplier
+ */
+public class FixedMethodHandleInvoker extends MethodHandleInvoker {
+
+    private final Supplier<Object> targetSupplier;
+
+    public FixedMethodHandleInvoker(Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType) throws IllegalAccessException {
+        super(resolverMethod, enclosingType);
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public Object execute(Object target, Object[] arguments) throws InvocationTargetException {
+        return super.execute(this.targetSupplier.get(), arguments);
+    }
+}
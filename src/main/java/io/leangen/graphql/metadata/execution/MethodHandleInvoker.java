@@ -0,0 +1,54 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodInvoker} that calls the underlying method through a {@link MethodHandle} resolved once,
+ * when the invoker is created, instead of going through {@link Method#invoke(Object, Object...)} on each call.
+ */
+public class MethodHandleInvoker extends MethodInvoker {
+
+    private final MethodHandle handle;
+
+    /**
+     * @param resolverMethod The method to invoke
+     * @param enclosingType The type declaring {@code resolverMethod}
+     *
+     * @throws IllegalAccessException If the method is not accessible and thus can not be turned into a handle
+     */
+    public MethodHandleInvoker(Method resolverMethod, AnnotatedType enclosingType) throws IllegalAccessException {
+        super(resolverMethod, enclosingType);
+        this.handle = toHandle(resolverMethod);
+    }
+
+    @Override
+    public Object execute(Object target, Object[] args) throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Adapts the handle of the given method to a uniform {@code (Object, Object[])Object} shape,
+     * so that it can be invoked exactly regardless of the actual signature.
+     * For static methods, the target is accepted but ignored, same as with {@link Method#invoke(Object, Object...)}.
+     */
+    private static MethodHandle toHandle(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        int parameterCount = method.getParameterCount();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        handle = handle.asType(MethodType.genericMethodType(isStatic ? parameterCount : parameterCount + 1));
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asSpreader(Object[].class, parameterCount);
+    }
+}
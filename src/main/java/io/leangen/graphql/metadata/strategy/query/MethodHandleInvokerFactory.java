@@ -0,0 +1,41 @@
+package io.leangen.graphql.metadata.strategy.query;
+
+import io.leangen.graphql.metadata.execution.Executable;
+import io.leangen.graphql.metadata.execution.FieldHandleAccessor;
+import io.leangen.graphql.metadata.execution.FixedMethodHandleInvoker;
+import io.leangen.graphql.metadata.execution.MethodHandleInvoker;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MethodInvokerFactory} producing executables that invoke the underlying methods/fields via
+ * {@link java.lang.invoke.MethodHandle}s resolved at schema generation time, avoiding reflective dispatch
+ * and argument re-boxing on each invocation.
+ * Falls back to the reflective executables produced by {@link DefaultMethodInvokerFactory} for members
+ * that are not publicly accessible.
+ */
+public class MethodHandleInvokerFactory extends DefaultMethodInvokerFactory {
+
+    @Override
+    public Executable<Method> create(Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType, Class<?> exposedType) {
+        try {
+            return targetSupplier == null
+                    ? new MethodHandleInvoker(resolverMethod, enclosingType)
+                    : new FixedMethodHandleInvoker(targetSupplier, resolverMethod, enclosingType);
+        } catch (IllegalAccessException e) {
+            return super.create(targetSupplier, resolverMethod, enclosingType, exposedType);
+        }
+    }
+
+    @Override
+    public Executable<Field> create(Field field, AnnotatedType enclosingType) {
+        try {
+            return new FieldHandleAccessor(field, enclosingType);
+        } catch (IllegalAccessException e) {
+            return super.create(field, enclosingType);
+        }
+    }
+}
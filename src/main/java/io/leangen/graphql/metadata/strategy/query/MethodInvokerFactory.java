@@ -1,12 +1,18 @@
 package io.leangen.graphql.metadata.strategy.query;
 
 import io.leangen.graphql.metadata.execution.Executable;
+import io.leangen.graphql.metadata.execution.FieldAccessor;
 
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.function.Supplier;
 
 public interface MethodInvokerFactory {
 
     Executable<Method> create(Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType, Class<?> exposedType);
+
+    default Executable<Field> create(Field field, AnnotatedType enclosingType) {
+        return new FieldAccessor(field, enclosingType);
+    }
 }
@@ -2,11 +2,13 @@ package io.leangen.graphql.metadata.strategy.query;
 
 import graphql.execution.batched.Batched;
 import graphql.language.OperationDefinition;
+import io.leangen.graphql.annotations.GraphQLBatched;
+import io.leangen.graphql.annotations.GraphQLCacheable;
 import io.leangen.graphql.annotations.GraphQLComplexity;
 import io.leangen.graphql.generator.JavaDeprecationMappingConfig;
+import io.leangen.graphql.metadata.CachePolicy;
 import io.leangen.graphql.metadata.Resolver;
 import io.leangen.graphql.metadata.TypedElement;
-import io.leangen.graphql.metadata.execution.FieldAccessor;
 import io.leangen.graphql.metadata.messages.MessageBundle;
 import io.leangen.graphql.metadata.strategy.value.Property;
 import io.leangen.graphql.util.ClassUtils;
@@ -116,12 +118,13 @@ public class PublicResolverBuilder extends AbstractResolverBuilder {
                             messageBundle.interpolate(operationInfoGenerator.name(infoParams)),
                             messageBundle.interpolate(operationInfoGenerator.description(infoParams)),
                             messageBundle.interpolate(ReservedStrings.decode(operationInfoGenerator.deprecationReason(infoParams))),
-                            batchable && method.isAnnotationPresent(Batched.class),
+                            batchable && (method.isAnnotationPresent(Batched.class) || method.isAnnotationPresent(GraphQLBatched.class)),
                             methodInvokerFactory.create(querySourceBean, method, beanType, params.getExposedBeanType()),
                             element,
                             argumentBuilder.buildResolverArguments(
                                     new ArgumentBuilderParams(method, beanType, params.getInclusionStrategy(), params.getTypeTransformer(), params.getEnvironment())),
-                            method.isAnnotationPresent(GraphQLComplexity.class) ? method.getAnnotation(GraphQLComplexity.class).value() : null
+                            method.isAnnotationPresent(GraphQLComplexity.class) ? method.getAnnotation(GraphQLComplexity.class).value() : null,
+                            method.isAnnotationPresent(GraphQLCacheable.class) ? CachePolicy.from(method.getAnnotation(GraphQLCacheable.class)) : null
                     );
                 })
                 .collect(Collectors.toList());
@@ -148,7 +151,8 @@ public class PublicResolverBuilder extends AbstractResolverBuilder {
                             methodInvokerFactory.create(params.getQuerySourceBeanSupplier(), prop.getGetter(), beanType, params.getExposedBeanType()),
                             element,
                             argumentBuilder.buildResolverArguments(new ArgumentBuilderParams(prop.getGetter(), beanType, params.getInclusionStrategy(), params.getTypeTransformer(), params.getEnvironment())),
-                            element.isAnnotationPresent(GraphQLComplexity.class) ? element.getAnnotation(GraphQLComplexity.class).value() : null
+                            element.isAnnotationPresent(GraphQLComplexity.class) ? element.getAnnotation(GraphQLComplexity.class).value() : null,
+                            element.isAnnotationPresent(GraphQLCacheable.class) ? CachePolicy.from(element.getAnnotation(GraphQLCacheable.class)) : null
                     );
                 })
                 .collect(Collectors.toSet());
@@ -170,10 +174,11 @@ public class PublicResolverBuilder extends AbstractResolverBuilder {
                             messageBundle.interpolate(operationInfoGenerator.description(infoParams)),
                             messageBundle.interpolate(ReservedStrings.decode(operationInfoGenerator.deprecationReason(infoParams))),
                             false,
-                            new FieldAccessor(field, beanType),
+                            methodInvokerFactory.create(field, beanType),
                             element,
                             Collections.emptyList(),
-                            field.isAnnotationPresent(GraphQLComplexity.class) ? field.getAnnotation(GraphQLComplexity.class).value() : null
+                            field.isAnnotationPresent(GraphQLComplexity.class) ? field.getAnnotation(GraphQLComplexity.class).value() : null,
+                            field.isAnnotationPresent(GraphQLCacheable.class) ? CachePolicy.from(field.getAnnotation(GraphQLCacheable.class)) : null
                     );
                 })
                 .collect(Collectors.toSet());
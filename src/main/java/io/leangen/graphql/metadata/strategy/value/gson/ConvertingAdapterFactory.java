@@ -9,6 +9,7 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.execution.GlobalEnvironment;
 
 import java.lang.reflect.AnnotatedType;
+import java.util.Optional;
 
 class ConvertingAdapterFactory implements TypeAdapterFactory {
 
@@ -22,8 +23,7 @@ class ConvertingAdapterFactory implements TypeAdapterFactory {
     @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
         AnnotatedType detectedType = environment.typeTransformer.transform(GenericTypeReflector.annotate(type.getType()));
-        return environment.getInputConverters().stream()
-                .filter(converter -> converter.supports(detectedType)).findFirst()
+        return Optional.ofNullable(environment.converters.getInputConverter(detectedType))
                 .map(converter -> new ConvertingDeserializer(detectedType, environment.getMappableInputType(detectedType).getType(), converter, environment, gson))
                 .map(deserializer -> new TreeTypeAdapter(null, deserializer, gson, type, this))
                 .orElse(null);
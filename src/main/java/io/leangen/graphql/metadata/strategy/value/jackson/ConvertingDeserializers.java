@@ -27,8 +27,10 @@ import java.util.stream.Collectors;
 class ConvertingDeserializers extends Deserializers.Base {
 
     private final Map<InputConverter, JsonDeserializer> deserializers;
+    private final GlobalEnvironment environment;
 
     ConvertingDeserializers(GlobalEnvironment environment, ObjectMapper mapper) {
+        this.environment = environment;
         this.deserializers = environment.getInputConverters().stream()
                 .collect(Collectors.toMap(Function.identity(), converter -> new ConvertingDeserializer(converter, environment, mapper)));
     }
@@ -82,7 +84,8 @@ class ConvertingDeserializers extends Deserializers.Base {
     }
 
     private JsonDeserializer forType(AnnotatedType type) {
-        return deserializers.keySet().stream().filter(c -> c.supports(type)).findFirst().map(deserializers::get).orElse(null);
+        InputConverter converter = environment.converters.getInputConverter(type);
+        return converter == null ? null : deserializers.get(converter);
     }
 
     private JsonDeserializer forJavaType(JavaType type) {
@@ -2,6 +2,7 @@ package io.leangen.graphql.util;
 
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeFactory;
+import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.annotations.GraphQLUnion;
 import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.strategy.value.Property;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -56,6 +58,12 @@ public class ClassUtils {
 
     private static final Class<?> javassistProxyClass;
     private static final List<String> KNOWN_PROXY_CLASS_SEPARATORS = Arrays.asList("$$", "$ByteBuddy$", "$HibernateProxy$");
+    private static final ClassValue<Optional<Function<Object, Object>>> ID_ACCESSORS = new ClassValue<Optional<Function<Object, Object>>>() {
+        @Override
+        protected Optional<Function<Object, Object>> computeValue(Class<?> type) {
+            return findIdAccessor(type);
+        }
+    };
     private static final List<Class> ROOT_TYPES = Arrays.asList(
             Object.class, Annotation.class, Cloneable.class, Comparable.class, Externalizable .class, Serializable.class,
             Closeable.class, AutoCloseable.class);
@@ -353,6 +361,40 @@ public class ClassUtils {
         }
     }
 
+    /**
+     * Checks whether the given public method, as inherited by {@code type}, is declared below {@code base},
+     * i.e. whether a subclass overrides it
+     *
+     * @param type The (sub)class to check
+     * @param base The class declaring the original method
+     * @param methodName The name of the method
+     * @param parameterTypes The parameter types of the method
+     * @return {@code true} if the method is overridden by {@code type} or any of its superclasses below {@code base}
+     */
+    public static boolean isOverridden(Class<?> type, Class<?> base, String methodName, Class<?>... parameterTypes) {
+        return findMethod(type, methodName, parameterTypes)
+                .map(method -> method.getDeclaringClass() != base && base.isAssignableFrom(method.getDeclaringClass()))
+                .orElse(false);
+    }
+
+    /**
+     * Checks whether the instances of the given type are compared by value, i.e. whether its class overrides
+     * {@link Object#equals(Object)}, or its interface (re)declares it as a part of the contract, as collections and maps do
+     *
+     * @param type The type to check
+     * @return {@code true} if the type defines its own notion of equality
+     */
+    public static boolean hasValueEquality(Type type) {
+        Class<?> raw = GenericTypeReflector.erase(type);
+        if (raw.isPrimitive()) {
+            return true;
+        }
+        if (raw.isInterface()) {
+            return findMethod(raw, "equals", Object.class).isPresent();
+        }
+        return isOverridden(raw, Object.class, "equals", Object.class);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T getFieldValue(Object source, String fieldName) {
         try {
@@ -419,6 +461,46 @@ public class ClassUtils {
         return GenericTypeReflector.toCanonical(type).toString();
     }
 
+    /**
+     * Reads the value of the public getter or field marked with {@link GraphQLId} (either as a declaration or type-use annotation)
+     * from the given object
+     *
+     * @param source The object to read the ID from
+     * @return The ID value, or an empty {@code Optional} if the object exposes no (readable and non-null) ID
+     */
+    public static Optional<Object> getIdValue(Object source) {
+        if (source == null) {
+            return Optional.empty();
+        }
+        return ID_ACCESSORS.get(source.getClass()).map(accessor -> accessor.apply(source));
+    }
+
+    private static Optional<Function<Object, Object>> findIdAccessor(Class<?> type) {
+        Optional<Function<Object, Object>> getter = Arrays.stream(type.getMethods())
+                .filter(method -> method.getParameterCount() == 0 && method.getAnnotatedReturnType().isAnnotationPresent(GraphQLId.class))
+                .findFirst()
+                .map(method -> source -> {
+                    try {
+                        return method.invoke(source);
+                    } catch (ReflectiveOperationException e) {
+                        return null;
+                    }
+                });
+        if (getter.isPresent()) {
+            return getter;
+        }
+        return Arrays.stream(type.getFields())
+                .filter(field -> field.isAnnotationPresent(GraphQLId.class) || field.getAnnotatedType().isAnnotationPresent(GraphQLId.class))
+                .findFirst()
+                .map(field -> source -> {
+                    try {
+                        return field.get(source);
+                    } catch (IllegalAccessException e) {
+                        return null;
+                    }
+                });
+    }
+
     public static String toString(AnnotatedElement element) {
         if (element instanceof Parameter) {
             return ((Parameter) element).getDeclaringExecutable() + "#" + ((Parameter) element).getName();
@@ -3,6 +3,9 @@ package io.leangen.graphql.util;
 import graphql.ExecutionInput;
 import graphql.GraphQLContext;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import static io.leangen.graphql.util.GraphQLUtils.CLIENT_MUTATION_ID;
 
 public class ContextUtils {
@@ -44,5 +47,35 @@ public class ContextUtils {
         }
     }
 
+    /**
+     * Gets the map, kept in the (default) request context, where the values computed once per request can be stored
+     *
+     * @param context The request context
+     * @param <K> The type of the keys
+     * @param <V> The type of the values
+     *
+     * @return The request-scoped map, or {@code null} if the given context is not the default one
+     */
+    public static <K, V> ConcurrentMap<K, V> getRequestScopedValues(Object context) {
+        if (!isDefault(context)) {
+            return null;
+        }
+        GraphQLContext ctx = (GraphQLContext) context;
+        ConcurrentMap<K, V> values = ctx.get(RequestScopedValuesKey.class);
+        if (values == null) {
+            //GraphQLContext has no atomic putIfAbsent, and resolvers may be running on different threads
+            synchronized (ctx) {
+                values = ctx.get(RequestScopedValuesKey.class);
+                if (values == null) {
+                    values = new ConcurrentHashMap<>();
+                    ctx.put(RequestScopedValuesKey.class, values);
+                }
+            }
+        }
+        return values;
+    }
+
     private static class ContextKey {}
+
+    private static class RequestScopedValuesKey {}
 }
@@ -4,17 +4,32 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLRootContext;
 import io.leangen.graphql.annotations.GraphQLScalar;
 import io.leangen.graphql.domain.Street;
+import io.leangen.graphql.execution.FieldProjection;
+import io.leangen.graphql.generator.mapping.ArgumentInjector;
+import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
+import io.leangen.graphql.generator.mapping.common.RootContextInjector;
 import org.junit.Test;
 
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests whether various argument injectors are doing their job
@@ -59,6 +74,39 @@ public class ArgumentInjectionTest {
         assertValueAtPathEquals(null, result, ECHO);
     }
 
+    @Test
+    public void testInjectorResolvedAtBuildTime() {
+        CountingInjector injector = new CountingInjector();
+        GraphQL graphQL = GraphQL.newGraphQL(
+                new TestSchemaGenerator()
+                        .withOperationsFromSingleton(new SimpleService3())
+                        .withArgumentInjectors(injector)
+                        .generate())
+                .build();
+        int lookups = injector.lookups;
+
+        for (int i = 0; i < 3; i++) {
+            ExecutionResult result = graphQL.execute("{echo(in: \"x\")}");
+            assertNoErrors(result);
+            assertValueAtPathEquals("X", result, ECHO);
+        }
+        assertEquals(lookups, injector.lookups);
+        assertEquals(3, injector.injections);
+    }
+
+    @Test
+    public void testSubclassedInjectorNotBypassed() {
+        GraphQL graphQL = GraphQL.newGraphQL(
+                new TestSchemaGenerator()
+                        .withOperationsFromSingleton(SIMPLE)
+                        .withArgumentInjectors(new UpperCaseRootContextInjector())
+                        .generate())
+                .build();
+        ExecutionResult result = execute(graphQL, ECHO_QUERY, Collections.singletonMap("target", TARGET_VALUE));
+        assertNoErrors(result);
+        assertValueAtPathEquals(TARGET_VALUE.toUpperCase(), result, ECHO);
+    }
+
     private GraphQL getApi(Object service) {
         return GraphQL.newGraphQL(
                 new TestSchemaGenerator()
@@ -74,6 +122,22 @@ public class ArgumentInjectionTest {
                 .build());
     }
 
+    @Test
+    public void testFieldProjectionInjection() {
+        ProjectingService service = new ProjectingService();
+        GraphQL graphQL = GraphQL.newGraphQL(new TestSchemaGenerator().withOperationsFromSingleton(service).generate()).build();
+        ExecutionResult result = graphQL.execute("{plots {name, title: name, number, owner {name}, nickname}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Main", result, "plots.0.title");
+
+        FieldProjection projection = service.projection;
+        assertEquals(new HashSet<>(Arrays.asList("name", "number", "owner", "nickname")), projection.getFields().keySet());
+        assertEquals(new HashSet<>(Arrays.asList("name", "number", "owner")), projection.getPropertyNames());
+        assertEquals(new HashSet<>(Arrays.asList("name", "number", "owner", "owner.name")), projection.getPropertyPaths());
+        assertNull(projection.getField("nickname").getPropertyName());
+        assertTrue(projection.getField("owner").contains("name"));
+    }
+
     public static class SimpleService {
         @GraphQLQuery(name = ECHO)
         public String echoRootContext(@GraphQLRootContext("target") String target) {
@@ -88,6 +152,87 @@ public class ArgumentInjectionTest {
         }
     }
 
+    public static class SimpleService3 {
+        @GraphQLQuery(name = ECHO)
+        public String echoArgument(@GraphQLArgument(name = "in") String in) {
+            return in;
+        }
+    }
+
+    public static class ProjectingService {
+
+        private FieldProjection projection;
+
+        @GraphQLQuery
+        public List<Plot> plots(@GraphQLEnvironment FieldProjection projection) {
+            this.projection = projection;
+            return Collections.singletonList(new Plot("Main", 1, new Owner("Bob")));
+        }
+
+        @GraphQLQuery
+        public String nickname(@GraphQLContext Plot plot) {
+            return plot.getName().toLowerCase();
+        }
+    }
+
+    public static class Plot {
+        private final String name;
+        public final int number;
+        private final Owner owner;
+
+        Plot(String name, int number, Owner owner) {
+            this.name = name;
+            this.number = number;
+            this.owner = owner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+    }
+
+    public static class Owner {
+        private final String name;
+
+        Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class CountingInjector implements ArgumentInjector {
+
+        int lookups;
+        int injections;
+
+        @Override
+        public Object getArgumentValue(ArgumentInjectorParams params) {
+            injections++;
+            return params.getInput().toString().toUpperCase();
+        }
+
+        @Override
+        public boolean supports(AnnotatedType type, Parameter parameter) {
+            lookups++;
+            return parameter != null && parameter.getDeclaringExecutable().getDeclaringClass() == SimpleService3.class;
+        }
+    }
+
+    public static class UpperCaseRootContextInjector extends RootContextInjector {
+
+        @Override
+        public Object getArgumentValue(ArgumentInjectorParams params) {
+            return ((String) super.getArgumentValue(params)).toUpperCase();
+        }
+    }
+
     public static class RootContext {
         private String target;
 
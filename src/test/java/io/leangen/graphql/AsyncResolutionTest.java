@@ -0,0 +1,133 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLAsync;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLSubscription;
+import io.leangen.graphql.execution.DirectResolverFetcher;
+import io.leangen.graphql.support.TestLog;
+import io.reactivex.Flowable;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncResolutionTest {
+
+    private static final String ASYNC_THREAD = "async-resolver";
+
+    @Test
+    public void testAsyncResolution() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, ASYNC_THREAD));
+        try {
+            GraphQLSchema schema = new TestSchemaGenerator()
+                    .withOperationsFromSingleton(new SlowService())
+                    .withAsyncExecutor(executor)
+                    .generate();
+            GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+            GraphQLObjectType query = schema.getQueryType();
+            assertFalse(schema.getCodeRegistry().getDataFetcher(query, query.getFieldDefinition("thread")) instanceof DirectResolverFetcher);
+
+            //Both siblings must be running at the same time to get past the latch
+            ExecutionResult result = graphQL.execute("{first: thread, second: thread, description}");
+            assertNoErrors(result);
+            assertValueAtPathEquals(ASYNC_THREAD, result, "first");
+            assertValueAtPathEquals(ASYNC_THREAD, result, "second");
+            assertValueAtPathEquals("Slow", result, "description");
+
+            try (TestLog log = TestLog.unsafe(SimpleDataFetcherExceptionHandler.class)) {
+                result = graphQL.execute("{failing}");
+            }
+            assertEquals(1, result.getErrors().size());
+            assertTrue(result.getErrors().get(0).getMessage().contains("Slow failure"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAlreadyAsyncResolversNotOffloaded() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, ASYNC_THREAD));
+        try {
+            GraphQLSchema schema = new TestSchemaGenerator()
+                    .withOperationsFromSingleton(new ReactiveService())
+                    .withAsyncExecutor(executor)
+                    .generate();
+            GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+            String caller = Thread.currentThread().getName();
+
+            ExecutionResult result = graphQL.execute("{blocking, future}");
+            assertNoErrors(result);
+            assertValueAtPathEquals(ASYNC_THREAD, result, "blocking");
+            assertValueAtPathEquals(caller, result, "future");
+
+            result = graphQL.execute("subscription {ticks}");
+            assertNoErrors(result);
+            ExecutionResult tick = Flowable.fromPublisher(result.<Publisher<ExecutionResult>>getData()).blockingFirst();
+            assertEquals(caller, tick.<Map<String, Object>>getData().get("ticks"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @GraphQLAsync
+    public static class SlowService {
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+
+        @GraphQLQuery
+        public String thread() throws InterruptedException {
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Sibling resolvers did not run concurrently");
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @GraphQLQuery
+        public Optional<String> description() {
+            return Optional.of("Slow");
+        }
+
+        @GraphQLQuery
+        public String failing() {
+            throw new IllegalStateException("Slow failure");
+        }
+    }
+
+    @GraphQLAsync
+    public static class ReactiveService {
+
+        @GraphQLQuery
+        public String blocking() {
+            return Thread.currentThread().getName();
+        }
+
+        @GraphQLQuery
+        public CompletableFuture<String> future() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+        @GraphQLSubscription
+        public Publisher<String> ticks() {
+            return Flowable.just(Thread.currentThread().getName());
+        }
+    }
+}
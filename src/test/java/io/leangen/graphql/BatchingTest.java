@@ -5,23 +5,33 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.execution.batched.Batched;
 import graphql.execution.batched.BatchedExecutionStrategy;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLBatched;
 import io.leangen.graphql.annotations.GraphQLContext;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLRootContext;
 import io.leangen.graphql.domain.Education;
 import io.leangen.graphql.domain.SimpleUser;
+import io.leangen.graphql.execution.BatchLoaderFetcher;
+import io.leangen.graphql.execution.NPlusOneDetectionInstrumentation;
+import org.dataloader.DataLoaderOptions;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class BatchingTest {
@@ -55,6 +65,155 @@ public class BatchingTest {
         assertNoErrors(result);*/
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void dataLoaderBatchingTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new LoaderCandidatesService())
+                .withDataLoaderBatching(DataLoaderOptions::newOptions)
+                .generate();
+        GraphQLObjectType user = schema.getObjectType("SimpleUser");
+        assertTrue(schema.getCodeRegistry().getDataFetcher(user, user.getFieldDefinition("educations")) instanceof BatchLoaderFetcher);
+
+        AtomicBoolean runBatched = new AtomicBoolean(false);
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute(ExecutionInput.newExecutionInput()
+                .query("{candidates {educations {startYear}}}")
+                .context(runBatched).build());
+        assertTrue("Query didn't run in batched mode", runBatched.get());
+        assertNoErrors(result);
+        assertEquals(3, ((Map<String, List>) result.getData()).get("candidates").size());
+        assertValueAtPathEquals(2078, result, "candidates.0.educations.startYear");
+        assertValueAtPathEquals(2083, result, "candidates.1.educations.startYear");
+        assertValueAtPathEquals(2083, result, "candidates.2.educations.startYear");
+    }
+
+    @Test
+    public void deprecatedBatchingLeftToBatchedStrategyTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CandidatesService())
+                .withDataLoaderBatching(DataLoaderOptions::newOptions)
+                .generate();
+        GraphQLObjectType user = schema.getObjectType("SimpleUser");
+        assertFalse(schema.getCodeRegistry().getDataFetcher(user, user.getFieldDefinition("educations")) instanceof BatchLoaderFetcher);
+    }
+
+    @Test
+    public void dataLoaderBatchSizeTest() {
+        TagService tagService = new TagService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(tagService)
+                .withDataLoaderBatching(2)
+                .generate();
+
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{items {fullName, tag(prefix: \"#\")}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("#a", result, "items.0.tag");
+        assertValueAtPathEquals("#c", result, "items.2.tag");
+        assertEquals(Arrays.asList(2, 1), tagService.batchSizes);
+
+        //Without a per-request registry, each source is resolved on its own
+        tagService.batchSizes.clear();
+        result = GraphQL.newGraphQL(schema).build().execute("{items {tag(prefix: \"#\")}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("#b", result, "items.1.tag");
+        assertEquals(Arrays.asList(1, 1, 1), tagService.batchSizes);
+    }
+
+    @Test
+    public void dataLoaderArgumentGroupingTest() {
+        TagService tagService = new TagService();
+        //The loaders need no explicit options
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(tagService)
+                .generate();
+
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{items {tag(prefix: \"#\"), other: tag(prefix: \"@\")}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("#a", result, "items.0.tag");
+        assertValueAtPathEquals("@c", result, "items.2.other");
+        //one invocation per distinct argument value
+        assertEquals(Arrays.asList(3, 3), tagService.batchSizes);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void nPlusOneDetectionTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new TagService())
+                .withDataLoaderBatching(DataLoaderOptions::newOptions)
+                .generate();
+
+        List<NPlusOneDetectionInstrumentation.Report> reports = new ArrayList<>();
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .nPlusOneDetection(2, reports::addAll, true)
+                .build();
+
+        ExecutionResult result = exe.execute("{items {fullName, tag(prefix: \"#\"), initial, aliases}}");
+        assertNoErrors(result);
+        assertEquals(2, reports.size());
+        reports.sort(Comparator.comparing(NPlusOneDetectionInstrumentation.Report::getOperationName));
+        NPlusOneDetectionInstrumentation.Report report = reports.get(1);
+        assertEquals("initial", report.getOperationName());
+        assertEquals("/items", report.getListPath());
+        assertEquals(2, report.getLevel());
+        assertEquals(3, report.getInvocations());
+        assertEquals("@GraphQLBatched List<String> initial(@GraphQLContext List<SimpleUser> sources, ...)", report.getSuggestion());
+        //Generic return types are printed in full
+        assertEquals("@GraphQLBatched List<List<String>> aliases(@GraphQLContext List<SimpleUser> sources, ...)", reports.get(0).getSuggestion());
+        List<Map<String, Object>> extension = (List<Map<String, Object>>) result.getExtensions().get(NPlusOneDetectionInstrumentation.EXTENSION_KEY);
+        assertEquals(2, extension.size());
+        assertTrue(extension.stream().anyMatch(entry -> entry.get("path").equals("/items[*]/initial")));
+
+        reports.clear();
+        result = exe.execute("{items {initial}}");
+        assertNoErrors(result);
+        assertEquals(1, reports.size());
+        result = exe.execute("{items {fullName, tag(prefix: \"#\")}}");
+        assertNoErrors(result);
+        assertEquals(1, reports.size());
+        assertNull(result.getExtensions());
+    }
+
+    public static class TagService {
+
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @GraphQLQuery
+        public List<SimpleUser> items() {
+            return Arrays.asList(new SimpleUser("a"), new SimpleUser("b"), new SimpleUser("c"));
+        }
+
+        @GraphQLBatched
+        @GraphQLQuery
+        public List<String> tag(@GraphQLContext List<SimpleUser> users, @GraphQLArgument(name = "prefix") String prefix) {
+            batchSizes.add(users.size());
+            return users.stream().map(user -> prefix + user.getFullName()).collect(Collectors.toList());
+        }
+
+        @GraphQLQuery
+        public String initial(@GraphQLContext SimpleUser user) {
+            return user.getFullName().substring(0, 1);
+        }
+
+        @GraphQLQuery
+        public List<String> aliases(@GraphQLContext SimpleUser user) {
+            return Arrays.asList(user.getFullName(), user.getFullName().toUpperCase());
+        }
+    }
+
+    public static class LoaderCandidatesService extends CandidatesService {
+
+        @Override
+        @GraphQLBatched
+        @GraphQLQuery
+        public List<Education> educations(@GraphQLArgument(name = "users") @GraphQLContext List<SimpleUser> users, @GraphQLRootContext AtomicBoolean flag) {
+            return super.educations(users, flag);
+        }
+    }
+
     public static class CandidatesService {
         @GraphQLQuery(name = "candidates")
         public List<SimpleUser> getCandidates() {
@@ -0,0 +1,356 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLCacheable;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
+import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLRootContext;
+import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.execution.caching.CacheStats;
+import io.leangen.graphql.execution.caching.ResolverCache;
+import io.leangen.graphql.execution.caching.ResolverCacheManager;
+import io.leangen.graphql.execution.caching.ResultSerializer;
+import io.leangen.graphql.metadata.CachePolicy;
+import io.leangen.graphql.metadata.exceptions.MappingException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CachingTest {
+
+    @Test
+    public void testCachingAcrossRequests() {
+        AtomicLong time = new AtomicLong();
+        ResolverCacheManager cacheManager = new ResolverCacheManager(time::get);
+        CatalogService service = new CatalogService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverCacheManager(cacheManager)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        for (int i = 0; i < 3; i++) {
+            ExecutionResult result = graphQL.execute("{currencies(region: \"EU\") {code, rate}}");
+            assertNoErrors(result);
+            assertValueAtPathEquals("EUR", result, "currencies.0.code");
+            assertValueAtPathEquals(2, result, "currencies.1.rate");
+        }
+        assertEquals(1, service.currencyLookups.get());
+        //Equally identified sources share the cached rate
+        assertEquals(2, service.rateLookups.get());
+
+        //Different arguments are cached separately
+        assertNoErrors(graphQL.execute("{currencies(region: \"US\") {code}}"));
+        assertEquals(2, service.currencyLookups.get());
+
+        //Expired results are resolved anew
+        time.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertNoErrors(graphQL.execute("{currencies(region: \"EU\") {code, rate}}"));
+        assertEquals(3, service.currencyLookups.get());
+        assertEquals(2, service.rateLookups.get()); //Still within its own TTL
+
+        CacheStats stats = cacheManager.getStats().entrySet().stream()
+                .filter(entry -> entry.getKey().contains("currencies"))
+                .findFirst().orElseThrow(AssertionError::new).getValue();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(1, stats.getExpirationCount());
+
+        cacheManager.invalidateAll();
+        assertNoErrors(graphQL.execute("{currencies(region: \"EU\") {code}}"));
+        assertEquals(4, service.currencyLookups.get());
+    }
+
+    @Test
+    public void testOffHeapTier() {
+        ResolverCacheManager cacheManager = new ResolverCacheManager(System::nanoTime, new JacksonResultSerializer());
+        ProductService service = new ProductService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverCacheManager(cacheManager)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        //The on-heap tier only fits a single product, so the first one gets pushed out to the off-heap tier only
+        assertNoErrors(graphQL.execute("{product(id: 1) {name}}"));
+        assertNoErrors(graphQL.execute("{product(id: 2) {name}}"));
+        ExecutionResult result = graphQL.execute("{product(id: 1) {id, name, tags}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1, result, "product.id");
+        assertValueAtPathEquals("Product 1", result, "product.name");
+        assertValueAtPathEquals(Arrays.asList("new", "sale"), result, "product.tags");
+        assertEquals(2, service.productLookups.get());
+
+        CacheStats stats = cacheManager.getStats().entrySet().stream()
+                .filter(entry -> entry.getKey().contains("product"))
+                .findFirst().orElseThrow(AssertionError::new).getValue();
+        assertEquals(1, stats.getOffHeapHitCount());
+        assertTrue(stats.getOffHeapSize() > 0);
+    }
+
+    @Test(expected = MappingException.class)
+    public void testOffHeapTierRequiresSerializer() {
+        new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ProductService())
+                .withResolverCacheManager(new ResolverCacheManager())
+                .generate();
+    }
+
+    @Test
+    public void testInjectedArgumentsInKey() {
+        CatalogService service = new CatalogService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverCacheManager(new ResolverCacheManager())
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        ExecutionInput alice = ExecutionInput.newExecutionInput("{greeting}").context(Collections.singletonMap("user", "alice")).build();
+        ExecutionInput bob = alice.transform(builder -> builder.context(Collections.singletonMap("user", "bob")));
+        assertValueAtPathEquals("Hello, alice", graphQL.execute(alice), "greeting");
+        //The injected root context value is a part of the key, so one user's result is never served to another
+        assertValueAtPathEquals("Hello, bob", graphQL.execute(bob), "greeting");
+        assertValueAtPathEquals("Hello, alice", graphQL.execute(alice), "greeting");
+        assertEquals(2, service.greetingLookups.get());
+    }
+
+    @Test
+    public void testSourcesWithoutIdNotCached() {
+        CatalogService service = new CatalogService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverCacheManager(new ResolverCacheManager())
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        for (int i = 0; i < 2; i++) {
+            ExecutionResult result = graphQL.execute("{label {width}}");
+            assertNoErrors(result);
+            assertValueAtPathEquals(5, result, "label.width");
+        }
+        //Even equal sources aren't cached without an ID to identify them by
+        assertEquals(2, service.widthLookups.get());
+    }
+
+    @Test
+    public void testResolversInjectingRequestObjectsNotCached() {
+        ResolverCacheManager cacheManager = new ResolverCacheManager();
+        CatalogService service = new CatalogService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverCacheManager(cacheManager)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        for (int i = 0; i < 2; i++) {
+            ExecutionResult result = graphQL.execute("{path}");
+            assertNoErrors(result);
+            assertValueAtPathEquals("/path", result, "path");
+        }
+        //Each request injects a distinct environment, so no cache is kept for the resolver at all
+        assertEquals(2, service.pathLookups.get());
+        assertTrue(cacheManager.getStats().keySet().stream().noneMatch(resolver -> resolver.contains("path")));
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScans() {
+        ResolverCache cache = new ResolverCache(new CachePolicy(TimeUnit.HOURS.toNanos(1), 100));
+        for (int i = 0; i < 100; i++) {
+            cache.put("hot" + i, i, 1);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 100; i++) {
+                assertNotNull(cache.get("hot" + i));
+            }
+        }
+        //A burst of one-off entries must not flush out the frequently used ones
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold" + i, i, 1);
+        }
+        long survivors = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.get("hot" + i) != null) survivors++;
+        }
+        //The window is taken by the latest one-off entry. The rest may only be lost due to rare sketch collisions
+        assertTrue(survivors > 95);
+        assertNull(cache.get("cold0"));
+        assertEquals(100, cache.getStats().getWeight());
+    }
+
+    private static class JacksonResultSerializer implements ResultSerializer {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        @Override
+        public String serialize(Object result, AnnotatedType type) {
+            try {
+                return objectMapper.writeValueAsString(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Object deserialize(String serialized, AnnotatedType type) {
+            try {
+                return objectMapper.readValue(serialized, objectMapper.constructType(type.getType()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static class CatalogService {
+
+        private final AtomicInteger currencyLookups = new AtomicInteger();
+        private final AtomicInteger rateLookups = new AtomicInteger();
+        private final AtomicInteger greetingLookups = new AtomicInteger();
+        private final AtomicInteger widthLookups = new AtomicInteger();
+        private final AtomicInteger pathLookups = new AtomicInteger();
+
+        @GraphQLCacheable(ttl = 1, timeUnit = TimeUnit.MINUTES)
+        @GraphQLQuery
+        public List<Currency> currencies(@GraphQLArgument(name = "region") String region) {
+            currencyLookups.incrementAndGet();
+            return "EU".equals(region) ? Arrays.asList(new Currency("EUR"), new Currency("CHF")) : Arrays.asList(new Currency("USD"));
+        }
+
+        @GraphQLCacheable(ttl = 1, timeUnit = TimeUnit.HOURS)
+        @GraphQLQuery
+        public int rate(@GraphQLContext Currency currency) {
+            return rateLookups.incrementAndGet();
+        }
+
+        @GraphQLCacheable
+        @GraphQLQuery
+        public String greeting(@GraphQLRootContext("user") String user) {
+            greetingLookups.incrementAndGet();
+            return "Hello, " + user;
+        }
+
+        @GraphQLCacheable
+        @GraphQLQuery
+        public String path(@GraphQLEnvironment ResolutionEnvironment env) {
+            pathLookups.incrementAndGet();
+            return env.dataFetchingEnvironment.getExecutionStepInfo().getPath().toString();
+        }
+
+        @GraphQLQuery
+        public Label label() {
+            return new Label("label");
+        }
+
+        @GraphQLCacheable
+        @GraphQLQuery
+        public int width(@GraphQLContext Label label) {
+            widthLookups.incrementAndGet();
+            return label.getText().length();
+        }
+    }
+
+    public static class ProductService {
+
+        private final AtomicInteger productLookups = new AtomicInteger();
+
+        @GraphQLCacheable(maxWeight = 1, offHeapCapacity = 1024 * 1024)
+        @GraphQLQuery
+        public Product product(@GraphQLArgument(name = "id") int id) {
+            productLookups.incrementAndGet();
+            Product product = new Product();
+            product.setId(id);
+            product.setName("Product " + id);
+            product.setTags(Arrays.asList("new", "sale"));
+            return product;
+        }
+    }
+
+    public static class Product {
+
+        private int id;
+        private String name;
+        private List<String> tags;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public static class Label {
+
+        private final String text;
+
+        Label(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Label && ((Label) other).text.equals(text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+    }
+
+    public static class Currency {
+
+        private final String code;
+
+        Currency(String code) {
+            this.code = code;
+        }
+
+        @GraphQLQuery
+        public @GraphQLId String getCode() {
+            return code;
+        }
+    }
+}
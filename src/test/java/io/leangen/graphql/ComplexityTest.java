@@ -1,8 +1,11 @@
 package io.leangen.graphql;
 
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.InMemoryPersistedQueryCache;
 import graphql.schema.GraphQLSchema;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
@@ -13,11 +16,19 @@ import io.leangen.graphql.annotations.GraphQLMutation;
 import io.leangen.graphql.annotations.GraphQLNonNull;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLSubscription;
+import io.leangen.graphql.annotations.types.GraphQLInterface;
 import io.leangen.graphql.domain.Cat;
 import io.leangen.graphql.domain.Dog;
 import io.leangen.graphql.domain.Education;
 import io.leangen.graphql.domain.Pet;
+import io.leangen.graphql.execution.complexity.ComplexityBudget;
+import io.leangen.graphql.execution.complexity.ComplexityExpression;
+import io.leangen.graphql.execution.complexity.ComplexityFunction;
 import io.leangen.graphql.execution.complexity.ComplexityLimitExceededException;
+import io.leangen.graphql.execution.complexity.DefaultComplexityFunction;
+import io.leangen.graphql.execution.complexity.OperationLimitExceededException;
+import io.leangen.graphql.execution.complexity.OperationLimits;
+import io.leangen.graphql.execution.complexity.ResolvedField;
 import io.leangen.graphql.execution.relay.Page;
 import io.leangen.graphql.execution.relay.generic.PageFactory;
 import io.leangen.graphql.services.UserService;
@@ -26,13 +37,27 @@ import org.junit.Test;
 import org.reactivestreams.Publisher;
 
 import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.leangen.graphql.support.Matchers.hasComplexityScore;
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ComplexityTest {
 
@@ -193,6 +218,336 @@ public class ComplexityTest {
         testComplexity(new PetService(), subscription, 4, 5);
     }
 
+    @Test
+    public void expressionLanguageTest() {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("first", 10);
+        arguments.put("sort", "ASC");
+        arguments.put("deep", true);
+        arguments.put("filter", Collections.singletonMap("limit", 3));
+        arguments.put("ids", Arrays.asList("a", "b"));
+
+        assertEquals(52, ComplexityExpression.compile("2 + first * childScore").evaluate(arguments, 5));
+        assertEquals(60, ComplexityExpression.compile("(2 + first) * childScore").evaluate(arguments, 5));
+        assertEquals(10, ComplexityExpression.compile("sort == 'ASC' ? 2 * childScore : childScore").evaluate(arguments, 5));
+        assertEquals(5, ComplexityExpression.compile("sort != \"ASC\" ? 2 * childScore : childScore").evaluate(arguments, 5));
+        assertEquals(15, ComplexityExpression.compile("deep && first > 5 ? filter.limit * childScore : 1").evaluate(arguments, 5));
+        assertEquals(4, ComplexityExpression.compile("Math.min(first, 4) + missing").evaluate(arguments, 5));
+        assertEquals(3, ComplexityExpression.compile("ids + 7 % 3 - -0 + !deep").evaluate(arguments, 5));
+        assertEquals(3, ComplexityExpression.compile("first / 3").evaluate(arguments, 5));
+        assertEquals(8, ComplexityExpression.compile("pow(2, 3)").evaluate(arguments, 5));
+
+        ComplexityExpression invalid = ComplexityExpression.compile("2 * (childScore");
+        try {
+            invalid.evaluate(arguments, 5);
+            fail("Invalid expression evaluated");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("')' expected"));
+        }
+    }
+
+    @Test
+    public void cachedComplexityTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        AtomicInteger scored = new AtomicInteger();
+        DefaultComplexityFunction defaultFunction = new DefaultComplexityFunction();
+        ComplexityFunction countingFunction = new ComplexityFunction() {
+            @Override
+            public int getComplexity(ResolvedField node, int childScore) {
+                scored.incrementAndGet();
+                return defaultFunction.getComplexity(node, childScore);
+            }
+
+            @Override
+            public boolean isArgumentDependent(ResolvedField node) {
+                return defaultFunction.isArgumentDependent(node);
+            }
+        };
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(8, countingFunction)
+                .build();
+        String query = "query Items($limit: Int!, $id: Int!, $max: Int!, $withTags: Boolean!) {" +
+                "items(limit: $limit) {title}, item(id: $id) {title @include(if: $withTags)}, tags(max: $max) {title}}";
+
+        //items: 2 * 1, item: 1 + 1, tags: 5 * 1
+        assertComplexity(exe.execute(executionInput(query, 2, 1, 5, true)), 9);
+        int analyzed = scored.get();
+        //Neither the argument of a field scored without an expression, nor one declared variable-independent, matter
+        assertComplexity(exe.execute(executionInput(query, 2, 7, 6, true)), 9);
+        assertEquals(analyzed, scored.get());
+        //The argument used by an expression does
+        assertComplexity(exe.execute(executionInput(query, 3, 1, 5, true)), 10);
+        assertTrue(scored.get() > analyzed);
+        analyzed = scored.get();
+        //So do the variables of conditional selections
+        assertComplexity(exe.execute(executionInput(query, 3, 1, 5, false)), 9);
+        assertTrue(scored.get() > analyzed);
+        analyzed = scored.get();
+        assertComplexity(exe.execute(executionInput(query, 3, 2, 100, false)), 9);
+        assertEquals(analyzed, scored.get());
+    }
+
+    @Test
+    public void cachedOverloadedComplexityTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new SearchService())
+                .generate();
+        String query = "query Search($text: String, $id: Int) {search(text: $text, id: $id) {title}}";
+
+        for (boolean singlePass : new boolean[] {false, true}) {
+            GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                    .maximumQueryComplexity(5, new DefaultComplexityFunction(), 100, singlePass)
+                    .build();
+            //The resolver, and thus the expression scoring the field, is chosen by the arguments present
+            assertComplexity(exe.execute(ExecutionInput.newExecutionInput(query)
+                    .variables(Collections.singletonMap("text", "dune")).build()), 10);
+            assertNoErrors(exe.execute(ExecutionInput.newExecutionInput(query)
+                    .variables(Collections.singletonMap("id", 1)).build()));
+        }
+    }
+
+    @Test
+    public void cachedPersistedQueryComplexityTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        Map<Object, String> persisted = new HashMap<>();
+        persisted.put("cheap", "{item(id: 1) {title}}");
+        persisted.put("expensive", "{a: item(id: 1) {title}, b: item(id: 2) {title}, c: item(id: 3) {title}}");
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(5)
+                .preparsedDocumentProvider(new ApolloPersistedQuerySupport(new InMemoryPersistedQueryCache(persisted)))
+                .build();
+
+        //Every persisted query carries the same marker text, so the text alone must not identify the document
+        for (int i = 0; i < 2; i++) {
+            assertNoErrors(exe.execute(persistedQuery("cheap")));
+            assertComplexity(exe.execute(persistedQuery("expensive")), 6);
+        }
+    }
+
+    @Test
+    public void singlePassAbortsEarlyTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        AtomicInteger scored = new AtomicInteger();
+        DefaultComplexityFunction defaultFunction = new DefaultComplexityFunction();
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(10, (node, childScore) -> {
+                    scored.incrementAndGet();
+                    return defaultFunction.getComplexity(node, childScore);
+                }, 0, true)
+                .build();
+
+        StringBuilder query = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            query.append("i").append(i).append(": item(id: ").append(i).append(") {title} ");
+        }
+        ExecutionResult result = exe.execute(query.append("}").toString());
+        assertEquals(1, result.getErrors().size());
+        //Each item scores 2, so the 6th one pushes the total over the limit
+        assertThat((ComplexityLimitExceededException) result.getErrors().get(0), hasComplexityScore(12));
+        assertEquals(12, scored.get());
+    }
+
+    @Test
+    public void singlePassRecursiveInterfaceTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ShapeService())
+                .generate();
+        //Each level selects the inner shape unconditionally, next to two type conditions
+        String shape = "__typename";
+        int depth = 30;
+        for (int i = 0; i < depth; i++) {
+            shape = "inner {" + shape + "} ... on Circle {radius} ... on Square {side}";
+        }
+        String query = "{shape {" + shape + "}}";
+
+        AtomicInteger scored = new AtomicInteger();
+        DefaultComplexityFunction defaultFunction = new DefaultComplexityFunction();
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(2 * depth + 1, (node, childScore) -> {
+                    scored.incrementAndGet();
+                    return defaultFunction.getComplexity(node, childScore);
+                }, 0, true)
+                .build();
+
+        //Each level adds inner (1 + childScore) and the more complex alternative (1)
+        assertComplexity(exe.execute(query), 2 * depth + 2);
+        //Each selection is scored exactly once, instead of once per alternative of each enclosing level
+        assertEquals(3 * depth + 2, scored.get());
+
+        scored.set(0);
+        exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(5, (node, childScore) -> {
+                    scored.incrementAndGet();
+                    return defaultFunction.getComplexity(node, childScore);
+                }, 0, true)
+                .build();
+        //The innermost levels score 1, 3 and 5, so the analysis stops at the inner shape of the next one
+        assertComplexity(exe.execute(query), 6);
+        assertEquals(8, scored.get());
+    }
+
+    @Test
+    public void operationLimitsTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(100)
+                .maximumQueryDepth(3)
+                .maximumFieldCount(6)
+                .maximumAliasCount(2)
+                .maximumFragmentExpansionCount(2)
+                .build();
+
+        assertNoErrors(exe.execute("{a: item(id: 1) {...Title, related {title}}, b: item(id: 2) {...Title}} fragment Title on Item {title}"));
+        assertLimitExceeded(exe.execute("{item(id: 1) {related {related {title}}}}"), OperationLimits.DEPTH, 4);
+        assertLimitExceeded(exe.execute("{item(id: 1) {title, related {title, related {title}}}, items(limit: 1) {title}}"), OperationLimits.FIELD_COUNT, 7);
+        assertLimitExceeded(exe.execute("{a: item(id: 1) {title}, b: item(id: 2) {title}, c: item(id: 3) {title}}"), OperationLimits.ALIAS_COUNT, 3);
+        assertLimitExceeded(exe.execute("{item(id: 1) {...Title, related {...Title, related {...Title}}}} fragment Title on Item {title}"),
+                OperationLimits.FRAGMENT_EXPANSION_COUNT, 3);
+        //Skipped selections don't count
+        assertNoErrors(exe.execute("{item(id: 1) {related {related @skip(if: true) {title}, title}}}"));
+
+        //The structural limits don't change how the complexity is scored, i.e. by building the full tree unless told otherwise
+        GraphQL tree = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(3)
+                .maximumQueryDepth(3)
+                .build();
+        assertComplexity(tree.execute("{a: item(id: 1) {title}, b: item(id: 2) {title}, c: item(id: 3) {title}}"), 6);
+    }
+
+    @Test
+    public void operationLimitsWithTypeConditionsTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withAbstractInputTypeResolution()
+                .withOperationsFromSingleton(new PetService())
+                .generate();
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumFieldCount(5)
+                .build();
+
+        //Each selection counts once, regardless of the number of type conditions next to it
+        assertNoErrors(exe.execute("{pet(cat: true) {owner {name} ... on Cat {clawLength} ... on Dog {sound}}}"));
+        assertLimitExceeded(exe.execute("{pet(cat: true) {owner {name} ... on Cat {clawLength} ... on Dog {sound, boneCount}}}"),
+                OperationLimits.FIELD_COUNT, 6);
+    }
+
+    @Test
+    public void complexityBudgetTest() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        AtomicLong time = new AtomicLong();
+        ComplexityBudget budget = new ComplexityBudget(10, 1, 100, context -> ((Map<?, ?>) context).get("client"), time::get);
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .complexityBudget(budget)
+                .build();
+        //Each execution costs 2
+        ExecutionInput alice = ExecutionInput.newExecutionInput("{item(id: 1) {title}}").context(Collections.singletonMap("client", "alice")).build();
+        ExecutionInput bob = alice.transform(builder -> builder.context(Collections.singletonMap("client", "bob")));
+
+        for (int i = 0; i < 5; i++) {
+            assertNoErrors(exe.execute(alice));
+        }
+        assertLimitExceeded(exe.execute(alice), OperationLimits.COMPLEXITY_BUDGET, 2);
+        assertEquals(0, budget.getAvailable(Collections.singletonMap("client", "alice")));
+        assertNoErrors(exe.execute(bob));
+        assertEquals(8, budget.getAvailable(Collections.singletonMap("client", "bob")));
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertNoErrors(exe.execute(alice));
+        assertEquals(1, budget.getAvailable(Collections.singletonMap("client", "alice")));
+        assertLimitExceeded(exe.execute(alice), OperationLimits.COMPLEXITY_BUDGET, 2);
+        assertFalse(budget.tryCharge(Collections.singletonMap("client", "carol"), 11));
+    }
+
+    @Test
+    public void complexityBudgetEvictionTest() {
+        AtomicLong time = new AtomicLong();
+        ComplexityBudget budget = new ComplexityBudget(10, 1, 2, context -> context, time::get);
+
+        assertTrue(budget.tryCharge("alice", 10));
+        assertTrue(budget.tryCharge("bob", 10));
+        //Both buckets are still refilling, so new clients share the overflow bucket instead of replacing either
+        assertTrue(budget.tryCharge("carol", 10));
+        assertFalse(budget.tryCharge("dave", 1));
+        assertEquals(0, budget.getAvailable("dave"));
+        //Rotating identities does not reset the budget
+        assertFalse(budget.tryCharge("alice", 1));
+
+        //Full buckets are evicted to make room
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(budget.tryCharge("dave", 4));
+        assertEquals(6, budget.getAvailable("dave"));
+        //Dave got a bucket of their own, so the overflow one is untouched
+        assertEquals(10, budget.getAvailable("erin"));
+    }
+
+    @Test
+    public void complexityBudgetConcurrentEvictionTest() throws Exception {
+        int threads = 8;
+        AtomicLong time = new AtomicLong();
+        ComplexityBudget budget = new ComplexityBudget(10, 1, threads, context -> context, time::get);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 200; round++) {
+                //All the buckets of the previous round are full again, and get evicted to make room for the new clients
+                time.addAndGet(TimeUnit.SECONDS.toNanos(100));
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<Boolean>> charges = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String client = round + "-" + i;
+                    charges.add(executor.submit(() -> {
+                        start.await();
+                        return budget.tryCharge(client, 10);
+                    }));
+                }
+                //No charge may have landed in a bucket evicted in the meantime. The clients arriving while another
+                //thread was sweeping share the overflow bucket, so only one of those gets charged.
+                for (int i = 0; i < threads; i++) {
+                    if (charges.get(i).get()) {
+                        assertEquals(0, budget.getAvailable(round + "-" + i));
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertLimitExceeded(ExecutionResult result, String limit, int value) {
+        assertEquals(1, result.getErrors().size());
+        OperationLimitExceededException error = (OperationLimitExceededException) result.getErrors().get(0);
+        assertEquals(limit, error.getLimit());
+        assertEquals(value, error.getValue());
+    }
+
+    private static ExecutionInput persistedQuery(String id) {
+        return ExecutionInput.newExecutionInput(ApolloPersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(Collections.singletonMap("persistedQuery", Collections.singletonMap("sha256Hash", id)))
+                .build();
+    }
+
+    private static ExecutionInput executionInput(String query, int limit, int id, int max, boolean withTags) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("limit", limit);
+        variables.put("id", id);
+        variables.put("max", max);
+        variables.put("withTags", withTags);
+        return ExecutionInput.newExecutionInput(query).variables(variables).build();
+    }
+
+    private static void assertComplexity(ExecutionResult result, int expectedComplexity) {
+        assertEquals(1, result.getErrors().size());
+        assertThat((ComplexityLimitExceededException) result.getErrors().get(0), hasComplexityScore(expectedComplexity));
+    }
+
     private void testComplexity(Object service, String operation, int maxComplexity, int expectedComplexity) {
         testComplexity(service, GenericTypeReflector.annotate(service.getClass()), operation, maxComplexity, expectedComplexity);
     }
@@ -212,6 +567,17 @@ public class ComplexityTest {
         GraphQLError error = res.getErrors().get(0);
         assertTrue(error instanceof ComplexityLimitExceededException);
         assertThat((ComplexityLimitExceededException) error, hasComplexityScore(expectedComplexity));
+
+        //The single-pass analysis must arrive at exactly the same score
+        assertTrue(exceedsComplexity(schema, operation, expectedComplexity - 1));
+        assertFalse(exceedsComplexity(schema, operation, expectedComplexity));
+    }
+
+    private boolean exceedsComplexity(GraphQLSchema schema, String operation, int maxComplexity) {
+        GraphQL exe = GraphQLRuntime.newGraphQL(schema)
+                .maximumQueryComplexity(maxComplexity, new DefaultComplexityFunction(), 0, true)
+                .build();
+        return exe.execute(operation).getErrors().stream().anyMatch(error -> error instanceof ComplexityLimitExceededException);
     }
 
     public static class PetService {
@@ -234,6 +600,86 @@ public class ComplexityTest {
         }
     }
 
+    public static class ItemService {
+
+        @GraphQLQuery
+        @GraphQLComplexity("limit * childScore")
+        public List<Item> items(int limit) {
+            return Collections.emptyList();
+        }
+
+        @GraphQLQuery
+        public Item item(int id) {
+            return new Item();
+        }
+
+        @GraphQLQuery
+        @GraphQLComplexity(value = "5 * childScore", variableIndependent = true)
+        public List<Item> tags(int max) {
+            return Collections.emptyList();
+        }
+    }
+
+    public static class SearchService {
+
+        @GraphQLQuery(name = "search")
+        @GraphQLComplexity("10 * childScore")
+        public List<Item> searchByText(@GraphQLArgument(name = "text") String text) {
+            return Collections.emptyList();
+        }
+
+        @GraphQLQuery(name = "search")
+        public List<Item> searchById(@GraphQLArgument(name = "id") Integer id) {
+            return Collections.emptyList();
+        }
+    }
+
+    public static class ShapeService {
+
+        @GraphQLQuery
+        public Shape shape() {
+            return new Circle();
+        }
+
+        @GraphQLQuery
+        public Circle circle() {
+            return new Circle();
+        }
+
+        @GraphQLQuery
+        public Square square() {
+            return new Square();
+        }
+    }
+
+    @GraphQLInterface(name = "Shape")
+    public interface Shape {
+        Shape getInner();
+    }
+
+    public static class Circle implements Shape {
+        public int radius = 1;
+
+        @Override
+        public Shape getInner() {
+            return null;
+        }
+    }
+
+    public static class Square implements Shape {
+        public int side = 1;
+
+        @Override
+        public Shape getInner() {
+            return null;
+        }
+    }
+
+    public static class Item {
+        public String title = "item";
+        public Item related;
+    }
+
     public static class PagedPetService {
 
         @GraphQLQuery(name = "pets")
@@ -11,6 +11,7 @@ import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.execution.InvocationContext;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.execution.ResolverInterceptor;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
 import io.leangen.graphql.generator.mapping.OutputConverter;
@@ -26,6 +27,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.lang.annotation.ElementType;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,12 +39,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertErrorsEqual;
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -185,6 +191,43 @@ public class ConversionTest {
         assertSame(registry, optimizedRegistry);
     }
 
+    @Test
+    public void testInputConverterMemoization() {
+        CountingInputConverter converter = new CountingInputConverter();
+        ConverterRegistry registry = new ConverterRegistry(Collections.singletonList(converter), Collections.emptyList());
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(converter, registry.getInputConverter(new TypeToken<Optional<String>>(){}.getAnnotatedType()));
+            assertNull(registry.getInputConverter(new TypeToken<List<String>>(){}.getAnnotatedType()));
+        }
+        assertEquals(2, converter.supportChecks.get());
+
+        //optimized registries share the memoized lookups
+        ConverterRegistry optimized = registry.optimize(Collections.singletonList(new TypedElement(new TypeToken<String>(){}.getAnnotatedType())));
+        assertSame(converter, optimized.getInputConverter(new TypeToken<Optional<String>>(){}.getAnnotatedType()));
+        assertEquals(2, converter.supportChecks.get());
+    }
+
+    @Test
+    public void testConversionPlan() {
+        CountingConverter converter = new CountingConverter();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withValueMapperFactory(valueMapperFactory)
+                .withOutputConverters(converter)
+                .withOperationsFromSingleton(new PlannedService())
+                .generate();
+        GraphQL api = GraphQL.newGraphQL(schema).build();
+
+        int supportChecks = converter.supportChecks.get();
+        ExecutionResult result = api.execute("{numbers}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("#0", result, "numbers.0");
+        assertValueAtPathEquals("#99", result, "numbers.99");
+        assertEquals(100, converter.conversions.get());
+        //converters are selected while building the schema, not per value
+        assertEquals(supportChecks, converter.supportChecks.get());
+    }
+
     private GraphQL getApi() {
         return GraphQL.newGraphQL(
                 new TestSchemaGenerator()
@@ -319,6 +362,42 @@ public class ConversionTest {
         }
     }
 
+    public static class PlannedService {
+        @GraphQLQuery
+        public List<String> numbers() {
+            return IntStream.range(0, 100).mapToObj(Integer::toString).collect(Collectors.toList());
+        }
+    }
+
+    public static class CountingConverter implements OutputConverter<String, String> {
+
+        private final AtomicInteger supportChecks = new AtomicInteger();
+        private final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public String convertOutput(String original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
+            conversions.incrementAndGet();
+            return "#" + original;
+        }
+
+        @Override
+        public boolean supports(AnnotatedElement element, AnnotatedType type) {
+            supportChecks.incrementAndGet();
+            return type.getType() == String.class;
+        }
+    }
+
+    public static class CountingInputConverter extends OptionalAdapter {
+
+        private final AtomicInteger supportChecks = new AtomicInteger();
+
+        @Override
+        public boolean supports(AnnotatedType type) {
+            supportChecks.incrementAndGet();
+            return super.supports(type);
+        }
+    }
+
     public static class ErrorAppendingInterceptor implements ResolverInterceptor {
 
         @Override
@@ -0,0 +1,163 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.DirectResolverFetcher;
+import io.leangen.graphql.execution.ResolverInterceptor;
+import io.leangen.graphql.support.TestLog;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DirectResolverFetcherTest {
+
+    @Test
+    public void testTrivialFieldsDetected() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        GraphQLObjectType item = schema.getObjectType("Item");
+
+        assertTrue(fetcher(schema, item, "name") instanceof DirectResolverFetcher);
+        assertTrue(fetcher(schema, item, "tags") instanceof DirectResolverFetcher);
+        assertTrue(fetcher(schema, item, "price") instanceof DirectResolverFetcher);
+        assertFalse(fetcher(schema, item, "description") instanceof DirectResolverFetcher); //output converter
+        assertFalse(fetcher(schema, item, "label") instanceof DirectResolverFetcher); //arguments
+        assertFalse(fetcher(schema, schema.getQueryType(), "items") instanceof DirectResolverFetcher); //arguments
+    }
+
+    @Test
+    public void testInterceptedFieldsNotTrivial() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .withResolverInterceptors((ResolverInterceptor) (ctx, cont) -> cont.proceed(ctx))
+                .generate();
+
+        assertFalse(fetcher(schema, schema.getObjectType("Item"), "name") instanceof DirectResolverFetcher);
+    }
+
+    @Test
+    public void testDirectResolution() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ItemService())
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = graphQL.execute("{items(count: 1) {name, tags, price, description, label(prefix: \"#\")}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Chair", result, "items.0.name");
+        assertValueAtPathEquals(Arrays.asList("wood", "brown"), result, "items.0.tags");
+        assertValueAtPathEquals(25, result, "items.0.price");
+        assertValueAtPathEquals("Comfy", result, "items.0.description");
+        assertValueAtPathEquals("#Chair", result, "items.0.label");
+
+        try (TestLog log = TestLog.unsafe(SimpleDataFetcherExceptionHandler.class)) {
+            result = graphQL.execute("{items(count: 1) {stock}}");
+        }
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Unknown stock"));
+    }
+
+    @Test
+    public void testPlainResolution() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new CounterService())
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        assertFalse(fetcher(schema, schema.getMutationType(), "increment") instanceof DirectResolverFetcher);
+        assertFalse(fetcher(schema, schema.getQueryType(), "count") instanceof DirectResolverFetcher);
+
+        ExecutionResult result = graphQL.execute("mutation {increment}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1, result, "increment");
+
+        result = graphQL.execute("{count, withOffset: count(offset: 10)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1, result, "count");
+        assertValueAtPathEquals(11, result, "withOffset");
+    }
+
+    private static DataFetcher<?> fetcher(GraphQLSchema schema, GraphQLObjectType parent, String fieldName) {
+        return schema.getCodeRegistry().getDataFetcher(parent, parent.getFieldDefinition(fieldName));
+    }
+
+    public static class ItemService {
+        @GraphQLQuery
+        public List<Item> items(@GraphQLArgument(name = "count") int count) {
+            return Arrays.asList(new Item("Chair", 25), new Item("Table", 90)).subList(0, count);
+        }
+    }
+
+    public static class CounterService {
+
+        private int count;
+
+        @GraphQLMutation
+        public int increment() {
+            return ++count;
+        }
+
+        @GraphQLQuery
+        public int count() {
+            return count;
+        }
+
+        @GraphQLQuery
+        public int count(@GraphQLArgument(name = "offset") Integer offset) {
+            return count + offset;
+        }
+    }
+
+    public static class Item {
+
+        @GraphQLQuery
+        public final int price;
+        private final String name;
+
+        Item(String name, int price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        @GraphQLQuery
+        public String getName() {
+            return name;
+        }
+
+        @GraphQLQuery
+        public List<String> getTags() {
+            return Arrays.asList("wood", "brown");
+        }
+
+        @GraphQLQuery
+        public Optional<String> getDescription() {
+            return Optional.of("Comfy");
+        }
+
+        @GraphQLQuery
+        public String label(@GraphQLArgument(name = "prefix") String prefix) {
+            return prefix + name;
+        }
+
+        @GraphQLQuery
+        public int getStock() {
+            throw new IllegalStateException("Unknown stock");
+        }
+    }
+}
@@ -14,12 +14,15 @@ import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.RelayTest.Book;
 import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
 import io.leangen.graphql.annotations.GraphQLInputField;
 import io.leangen.graphql.annotations.GraphQLNonNull;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLRootContext;
 import io.leangen.graphql.annotations.GraphQLScalar;
 import io.leangen.graphql.annotations.types.GraphQLDirective;
+import io.leangen.graphql.execution.Directives;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.util.GraphQLUtils;
 import org.junit.Test;
 
@@ -29,8 +32,10 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static graphql.introspection.Introspection.DirectiveLocation;
@@ -127,6 +132,34 @@ public class DirectiveTest {
                 5, 10, 15, 20, 25, 30, 35);
     }
 
+    @Test
+    public void testClientDirectivesReusedWithinRequest() {
+        LibraryService service = new LibraryService();
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withAdditionalDirectives(Interrupt.class)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = graphQL.execute("fragment Details on Book @timeout(afterMillis: 20) {" +
+                "  review @timeout(afterMillis: 5)" +
+                "}" +
+                "{" +
+                "  books {...Details @timeout(afterMillis: 10)}" +
+                "  other: books {review}" +
+                "}");
+        assertTrue(result.getErrors().isEmpty());
+        //One instance per location (shared by all the list elements), not per invocation
+        assertEquals(6, service.invocations);
+        assertEquals(2, service.directives.size());
+        Directives annotated = service.directives.stream()
+                .filter(directives -> directives.find(DirectiveLocation.FIELD, "timeout") != null)
+                .findFirst().get();
+        assertEquals(5, annotated.find(DirectiveLocation.FIELD, "timeout").get(0).get("afterMillis"));
+        assertEquals(10, annotated.find(DirectiveLocation.FRAGMENT_SPREAD, "timeout").get(0).get("afterMillis"));
+        assertEquals(20, annotated.find(DirectiveLocation.FRAGMENT_DEFINITION, "timeout").get(0).get("afterMillis"));
+    }
+
     private void assertDirective(GraphQLDirectiveContainer container, String directiveName, String innerName) {
         Optional<graphql.schema.GraphQLArgument> argument = DirectivesUtil.directiveWithArg(container.getDirectives(), directiveName, "value");
         assertTrue(argument.isPresent());
@@ -177,6 +210,24 @@ public class DirectiveTest {
         }
     }
 
+    public static class LibraryService {
+
+        private final Set<Directives> directives = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int invocations;
+
+        @GraphQLQuery
+        public List<@GraphQLNonNull Book> books() {
+            return Arrays.asList(new Book("Dune", "x1"), new Book("Emma", "x2"), new Book("Ulysses", "x3"));
+        }
+
+        @GraphQLQuery
+        public synchronized String review(@GraphQLContext Book book, @GraphQLEnvironment ResolutionEnvironment env) {
+            invocations++;
+            directives.add(env.getDirectives());
+            return "Wholesome";
+        }
+    }
+
     private static class ServiceWithDirectives {
 
         @GraphQLQuery
@@ -0,0 +1,112 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.jfr.FlightRecorderEvents;
+import io.leangen.graphql.jfr.TypeResolutionEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderTest {
+
+    @Test
+    public void testEventsRecorded() throws Exception {
+        assumeTrue(FlightRecorderEvents.SUPPORTED);
+
+        List<RecordedEvent> events;
+        Path dump = Files.createTempFile("graphql-spqr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.leangen.graphql.ResolverInvocation");
+            recording.enable("io.leangen.graphql.SchemaGenerationPhase");
+            recording.start();
+
+            GraphQLSchema schema = new TestSchemaGenerator()
+                    .withOperationsFromSingleton(new BookService())
+                    .generate();
+            ExecutionResult result = GraphQL.newGraphQL(schema).build().execute("{book {title}, later}");
+            assertNoErrors(result);
+
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.delete(dump);
+        }
+
+        Set<String> phases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.leangen.graphql.SchemaGenerationPhase"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toSet());
+        assertTrue(phases.contains("operations"));
+        assertTrue(phases.contains("build"));
+
+        List<RecordedEvent> invocations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.leangen.graphql.ResolverInvocation"))
+                .collect(Collectors.toList());
+        assertEquals(3, invocations.size());
+        RecordedEvent title = invocations.stream().filter(event -> event.getString("operation").equals("title")).findFirst().get();
+        assertEquals("Book", title.getString("parentType"));
+        assertFalse(title.getBoolean("async"));
+        RecordedEvent later = invocations.stream().filter(event -> event.getString("operation").equals("later")).findFirst().get();
+        assertEquals("Query", later.getString("parentType"));
+        assertTrue(later.getBoolean("async"));
+    }
+
+    @Test
+    public void testDisabledEventsNotStarted() throws Exception {
+        assumeTrue(FlightRecorderEvents.SUPPORTED);
+
+        assertNull(TypeResolutionEvent.start("Node", Book.class));
+        try (Recording recording = new Recording()) {
+            recording.enable("io.leangen.graphql.TypeResolution");
+            recording.start();
+            assertNotNull(TypeResolutionEvent.start("Node", Book.class));
+        }
+        assertNull(TypeResolutionEvent.start("Node", Book.class));
+    }
+
+    public static class BookService {
+
+        @GraphQLQuery
+        public Book book() {
+            return new Book("Dune");
+        }
+
+        @GraphQLQuery
+        public CompletableFuture<String> later() {
+            return CompletableFuture.completedFuture("later");
+        }
+    }
+
+    public static class Book {
+
+        private final String title;
+
+        Book(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+}
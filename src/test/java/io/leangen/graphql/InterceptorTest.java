@@ -6,11 +6,19 @@ import graphql.GraphQL;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
 import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLBulkhead;
 import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLTimeout;
 import io.leangen.graphql.execution.InvocationContext;
 import io.leangen.graphql.execution.ResolverInterceptor;
+import io.leangen.graphql.execution.TimeoutInterceptorFactory;
+import io.leangen.graphql.execution.metrics.InMemoryResolverMetrics;
+import io.leangen.graphql.execution.metrics.InvocationStats;
+import io.leangen.graphql.execution.metrics.LatencyHistogram;
 import io.leangen.graphql.support.TestLog;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,9 +26,15 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static io.leangen.graphql.support.LogAssertions.assertWarningsLogged;
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
@@ -71,6 +85,87 @@ public class InterceptorTest {
         assertValueAtPathEquals("WOW22", result, "test");
     }
 
+    @Test
+    public void timeoutInterceptorTest() {
+        SlowService service = new SlowService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverTimeouts(new TimeoutInterceptorFactory(resolver -> resolver.getOperationName().equals("sleepy") ? Duration.ofMillis(20) : null))
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = graphQL.execute("{fast}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("fast", result, "fast");
+
+        result = graphQL.execute("{fast, stuck}");
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("did not complete within 50ms"));
+        assertValueAtPathEquals("fast", result, "fast");
+        assertTrue(service.stuck.isCancelled());
+
+        result = graphQL.execute("{trickle}");
+        assertEquals(1, result.getErrors().size());
+        assertValueAtPathEquals(Collections.singletonList("first"), result, "trickle");
+        assertTrue(service.trickleCancelled);
+
+        result = graphQL.execute("{sleepy}");
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("did not complete within 20ms"));
+    }
+
+    @Test
+    public void bulkheadTest() throws Exception {
+        GuardedService service = new GuardedService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        CompletableFuture<ExecutionResult> pending = graphQL.executeAsync(ExecutionInput.newExecutionInput()
+                .query("{first: guarded, second: guarded, third: guarded}"));
+        service.invocations.poll(5, TimeUnit.SECONDS).complete("first");
+        service.invocations.poll(5, TimeUnit.SECONDS).complete("second");
+        ExecutionResult result = pending.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Bulkhead guarded is full"));
+        assertValueAtPathEquals("first", result, "first");
+        assertValueAtPathEquals("second", result, "second");
+        assertValueAtPathEquals(null, result, "third");
+        assertTrue(service.invocations.isEmpty());
+    }
+
+    @Test
+    public void metricsTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new FlakyService())
+                .withResolverMetrics(metrics)
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        try (TestLog log = TestLog.unsafe(SimpleDataFetcherExceptionHandler.class)) {
+            for (int i = 0; i < 4; i++) {
+                graphQL.execute("{flaky(in: \"wow\")}");
+            }
+        }
+        InvocationStats stats = metrics.getStats().values().iterator().next();
+        assertEquals(4, stats.getInvocationCount());
+        assertEquals(2, stats.getErrorCount());
+        assertTrue(stats.getLatencies().getMax() > 0);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 / 16.0);
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 / 16.0);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
     @Test
     public void exceptionLogInterceptorTest() {
         ExceptionLoggingInterceptor interceptor = new ExceptionLoggingInterceptor();
@@ -93,6 +188,26 @@ public class InterceptorTest {
         }
     }
 
+    @Test
+    public void retryingInterceptorTest() {
+        FlakyService service = new FlakyService();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverInterceptors(new RetryingInterceptor(), new InputStringUpperCaseInterceptor())
+                .generate();
+
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = graphQL.execute("{flaky(in: \"wow\")}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("WOW", result, "flaky");
+        assertEquals(2, service.attempts);
+
+        result = graphQL.execute("{flaky(in: \"again\")}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("AGAIN", result, "flaky");
+        assertEquals(4, service.attempts);
+    }
+
     private static class AuthInterceptor implements ResolverInterceptor {
 
         @Override
@@ -147,6 +262,75 @@ public class InterceptorTest {
         }
     }
 
+    private static class RetryingInterceptor implements ResolverInterceptor {
+
+        @Override
+        public Object aroundInvoke(InvocationContext context, Continuation continuation) throws Exception {
+            try {
+                return continuation.proceed(context);
+            } catch (IllegalStateException e) {
+                return continuation.proceed(context);
+            }
+        }
+    }
+
+    public static class SlowService {
+
+        private final CompletableFuture<String> stuck = new CompletableFuture<>();
+        private volatile boolean trickleCancelled;
+
+        @GraphQLQuery
+        public CompletableFuture<String> fast() {
+            return CompletableFuture.completedFuture("fast");
+        }
+
+        @GraphQLTimeout(50)
+        @GraphQLQuery
+        public CompletableFuture<String> stuck() {
+            return stuck;
+        }
+
+        @GraphQLTimeout(50)
+        @GraphQLQuery
+        public Publisher<String> trickle() {
+            return subscriber -> subscriber.onSubscribe(new Subscription() {
+                private boolean sent;
+
+                @Override
+                public void request(long n) {
+                    if (!sent) {
+                        sent = true;
+                        subscriber.onNext("first"); //Never completes
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    trickleCancelled = true;
+                }
+            });
+        }
+
+        @GraphQLQuery
+        public String sleepy() throws InterruptedException {
+            Thread.sleep(50);
+            return "late";
+        }
+    }
+
+    public static class GuardedService {
+
+        private final BlockingQueue<CompletableFuture<String>> invocations = new LinkedBlockingQueue<>();
+
+        @GraphQLBulkhead(maxConcurrent = 1, maxQueued = 1)
+        @GraphQLQuery
+        public CompletableFuture<String> guarded() {
+            CompletableFuture<String> invocation = new CompletableFuture<>();
+            invocations.add(invocation);
+            return invocation;
+        }
+    }
+
     private static class User {
         private final Set<String> roles;
 
@@ -180,6 +364,19 @@ public class InterceptorTest {
         }
     }
 
+    public static class FlakyService {
+
+        int attempts = 0;
+
+        @GraphQLQuery
+        public String flaky(@GraphQLArgument(name = "in") String in) {
+            if (attempts++ % 2 == 0) {
+                throw new IllegalStateException("Try again");
+            }
+            return in;
+        }
+    }
+
     public static class BrokenService {
 
         @GraphQLQuery
@@ -0,0 +1,194 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
+import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.annotations.GraphQLMemoized;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.ResolverInterceptor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MemoizationTest {
+
+    @Test
+    public void testMemoizationWithinRequest() {
+        FeedService service = new FeedService();
+        GraphQL graphQL = graphQL(service);
+
+        ExecutionResult result = graphQL.execute("{posts {author {name}, writer: author {name}, shout: author(loud: true) {name}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("alice", result, "posts.0.author.name");
+        assertValueAtPathEquals("alice", result, "posts.0.writer.name");
+        assertValueAtPathEquals("ALICE", result, "posts.0.shout.name");
+        assertValueAtPathEquals("bob", result, "posts.2.author.name");
+        //3 distinct posts (one of them twice) x 2 distinct argument values
+        assertEquals(6, service.authorLookups.get());
+
+        //Nothing is memoized across requests
+        result = graphQL.execute("{posts {author {name}}}");
+        assertNoErrors(result);
+        assertEquals(9, service.authorLookups.get());
+    }
+
+    @Test
+    public void testMemoizationById() {
+        FeedService service = new FeedService();
+        GraphQL graphQL = graphQL(service);
+
+        //Distinct, but equally identified, post instances
+        ExecutionResult result = graphQL.execute("{reposts {reach}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1, result, "reposts.0.reach");
+        assertValueAtPathEquals(1, result, "reposts.1.reach");
+        assertEquals(1, service.reachLookups.get());
+    }
+
+    @Test
+    public void testMemoizationSkippedForCustomContext() {
+        FeedService service = new FeedService();
+        GraphQL graphQL = graphQL(service);
+
+        ExecutionResult result = graphQL.execute(ExecutionInput.newExecutionInput()
+                .query("{posts {author {name}, writer: author {name}}}")
+                .context(new Object()));
+        assertNoErrors(result);
+        assertEquals(8, service.authorLookups.get());
+    }
+
+    @Test
+    public void testMemoizationByInjectedArguments() {
+        FeedService service = new FeedService();
+        GraphQL graphQL = graphQL(service);
+
+        //The aliases select different sub-fields, so the profile built for one is useless for the other
+        ExecutionResult result = graphQL.execute("{posts {a: profile {name}, b: profile {email}, c: profile {name}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("alice", result, "posts.0.a.name");
+        assertValueAtPathEquals("alice@example.com", result, "posts.0.b.email");
+        //3 distinct posts x 2 distinct selections
+        assertEquals(6, service.profileLookups.get());
+    }
+
+    @Test
+    public void testInterceptorsRunOnMemoizedInvocations() {
+        FeedService service = new FeedService();
+        AtomicInteger intercepted = new AtomicInteger();
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withResolverInterceptors((ResolverInterceptor) (ctx, cont) -> {
+                    if (ctx.getResolver().getOperationName().equals("author")) {
+                        intercepted.incrementAndGet();
+                    }
+                    return cont.proceed(ctx);
+                })
+                .generate();
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = graphQL.execute("{posts {author {name}, writer: author {name}}}");
+        assertNoErrors(result);
+        assertEquals(3, service.authorLookups.get());
+        assertEquals(8, intercepted.get());
+    }
+
+    private static GraphQL graphQL(FeedService service) {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .generate();
+        return GraphQL.newGraphQL(schema).build();
+    }
+
+    public static class FeedService {
+
+        private final AtomicInteger authorLookups = new AtomicInteger();
+        private final AtomicInteger reachLookups = new AtomicInteger();
+        private final AtomicInteger profileLookups = new AtomicInteger();
+        private final Post first = new Post("alice");
+
+        @GraphQLQuery
+        public List<Post> posts() {
+            return Arrays.asList(first, new Post("alice"), new Post("bob"), first);
+        }
+
+        @GraphQLQuery
+        public List<Repost> reposts() {
+            return Arrays.asList(new Repost("1"), new Repost("1"));
+        }
+
+        @GraphQLMemoized
+        @GraphQLQuery
+        public Author author(@GraphQLContext Post post, @GraphQLArgument(name = "loud", defaultValue = "false") boolean loud) {
+            authorLookups.incrementAndGet();
+            return new Author(loud ? post.authorName.toUpperCase() : post.authorName);
+        }
+
+        @GraphQLMemoized
+        @GraphQLQuery
+        public Author profile(@GraphQLContext Post post, @GraphQLEnvironment Set<String> fields) {
+            profileLookups.incrementAndGet();
+            Author author = new Author(fields.contains("name") ? post.authorName : null);
+            author.email = fields.contains("email") ? post.authorName + "@example.com" : null;
+            return author;
+        }
+
+        @GraphQLMemoized
+        @GraphQLQuery
+        public int reach(@GraphQLContext Repost post) {
+            return reachLookups.incrementAndGet();
+        }
+    }
+
+    public static class Post {
+
+        final String authorName;
+
+        Post(String authorName) {
+            this.authorName = authorName;
+        }
+
+        @GraphQLQuery
+        public String getText() {
+            return "Hello";
+        }
+    }
+
+    public static class Repost {
+
+        private final String id;
+
+        Repost(String id) {
+            this.id = id;
+        }
+
+        @GraphQLQuery
+        public @GraphQLId String getId() {
+            return id;
+        }
+    }
+
+    public static class Author {
+
+        @GraphQLQuery
+        public final String name;
+
+        @GraphQLQuery
+        public String email;
+
+        Author(String name) {
+            this.name = name;
+        }
+    }
+}
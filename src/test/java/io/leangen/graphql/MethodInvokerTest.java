@@ -0,0 +1,112 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.execution.FieldHandleAccessor;
+import io.leangen.graphql.metadata.execution.FixedMethodHandleInvoker;
+import io.leangen.graphql.metadata.execution.MethodHandleInvoker;
+import io.leangen.graphql.metadata.strategy.query.MethodHandleInvokerFactory;
+import io.leangen.graphql.support.TestLog;
+import io.leangen.graphql.util.Directives;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MethodInvokerTest {
+
+    private static final GraphQLSchema schema = new TestSchemaGenerator()
+            .withOperationsFromSingleton(new BookService())
+            .withMethodInvokerFactory(new MethodHandleInvokerFactory())
+            .generate();
+
+    @Test
+    public void testInvokerTypes() {
+        assertTrue(executable(schema.getQueryType(), "books") instanceof FixedMethodHandleInvoker);
+        GraphQLObjectType book = schema.getObjectType("Book");
+        assertTrue(executable(book, "title") instanceof MethodHandleInvoker);
+        assertTrue(executable(book, "pages") instanceof FieldHandleAccessor);
+    }
+
+    @Test
+    public void testInvocation() {
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = graphQL.execute("{books(limit: 1) {title, pages, excerpt(length: 3)} total}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Dune", result, "books.0.title");
+        assertValueAtPathEquals(412, result, "books.0.pages");
+        assertValueAtPathEquals("Dun", result, "books.0.excerpt");
+        assertValueAtPathEquals(2, result, "total");
+    }
+
+    @Test
+    public void testExceptionUnwrapping() {
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result;
+        try (TestLog log = TestLog.unsafe(SimpleDataFetcherExceptionHandler.class)) {
+            result = graphQL.execute("{broken}");
+        }
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Out of print"));
+    }
+
+    private static Object executable(GraphQLObjectType parent, String fieldName) {
+        GraphQLFieldDefinition field = parent.getFieldDefinition(fieldName);
+        Operation operation = Directives.getMappedOperation(field).orElseThrow(IllegalStateException::new);
+        return operation.getResolvers().iterator().next().getExecutable();
+    }
+
+    public static class BookService {
+
+        private final List<Book> books = Arrays.asList(new Book("Dune", 412), new Book("Solaris", 204));
+
+        @GraphQLQuery
+        public List<Book> books(@GraphQLArgument(name = "limit") int limit) {
+            return books.subList(0, limit);
+        }
+
+        @GraphQLQuery
+        public static int total() {
+            return 2;
+        }
+
+        @GraphQLQuery
+        public String broken() {
+            throw new IllegalStateException("Out of print");
+        }
+    }
+
+    public static class Book {
+
+        private final String title;
+        @GraphQLQuery
+        public final int pages;
+
+        Book(String title, int pages) {
+            this.title = title;
+            this.pages = pages;
+        }
+
+        @GraphQLQuery
+        public String getTitle() {
+            return title;
+        }
+
+        @GraphQLQuery
+        public String excerpt(@GraphQLArgument(name = "length") int length) {
+            return title.substring(0, length);
+        }
+    }
+}
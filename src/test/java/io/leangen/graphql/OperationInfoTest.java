@@ -1,24 +1,39 @@
 package io.leangen.graphql;
 
+import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLEnumValue;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
 import io.leangen.graphql.annotations.GraphQLMutation;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.GraphQLSubscription;
 import io.leangen.graphql.annotations.types.GraphQLType;
+import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.metadata.Operation;
 import io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.PublicResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
+import io.leangen.graphql.util.Directives;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class OperationInfoTest {
@@ -34,6 +49,32 @@ public class OperationInfoTest {
         testOperationInfo(new PublicResolverBuilder().withJavaDeprecationRespected(false), false);
     }
 
+    @Test
+    public void testOverloadDispatch() {
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(new OverloadedService())
+                .generate();
+
+        Operation search = Directives.getMappedOperation(schema.getQueryType().getFieldDefinition("search")).orElseThrow(IllegalStateException::new);
+        assertEquals(4, search.getResolvers().size());
+        assertEquals(0, search.getApplicableResolver(Collections.emptySet()).getArguments().size());
+        assertEquals(1, search.getApplicableResolver(Collections.singleton("name")).getArguments().size());
+        assertEquals(2, search.getApplicableResolver(new HashSet<>(Arrays.asList("limit", "name"))).getArguments().size());
+        assertEquals("tag", search.getApplicableResolver(Collections.singleton("tag")).getArguments().get(0).getName());
+        assertNull(search.getApplicableResolver(Collections.singleton("limit")));
+        assertNull(search.getApplicableResolver(new HashSet<>(Arrays.asList("name", "unknown"))));
+        assertNotNull(search.getResolver("name", "limit"));
+        assertNull(search.getResolver("tag", "limit"));
+
+        GraphQL graphQL = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = graphQL.execute("{all: search, byName: search(name: \"x\"), limited: search(name: \"x\", limit: 2), byTag: search(tag: \"t\")}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("all", result, "all");
+        assertValueAtPathEquals("name:x", result, "byName");
+        assertValueAtPathEquals("name:x,limit:2", result, "limited");
+        assertValueAtPathEquals("tag:t", result, "byTag");
+    }
+
     private void testOperationInfo(ResolverBuilder resolverBuilder, boolean sneakyFieldDeprecated) {
         GraphQLSchema schema = new GraphQLSchemaGenerator()
                 .withOperationsFromSingleton(new BoringService(), resolverBuilder)
@@ -147,6 +188,29 @@ public class OperationInfoTest {
         }
     }
 
+    public static class OverloadedService {
+
+        @GraphQLQuery
+        public String search() {
+            return "all";
+        }
+
+        @GraphQLQuery
+        public String search(@GraphQLArgument(name = "name") String name) {
+            return "name:" + name;
+        }
+
+        @GraphQLQuery
+        public String search(@GraphQLArgument(name = "name") String name, @GraphQLArgument(name = "limit") Integer limit) {
+            return "name:" + name + ",limit:" + limit;
+        }
+
+        @GraphQLQuery
+        public String search(@GraphQLArgument(name = "tag") String tag, @GraphQLEnvironment ResolutionEnvironment env) {
+            return "tag:" + tag;
+        }
+    }
+
     @GraphQLType(name = "TheBlob", description = "Blip Bloop")
     static class Blob {public String makeSchemaValidationPass;}
 